@@ -2,8 +2,10 @@ package com.korit.team_ljco;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
 public class TeamLjcoApplication {
 
 	public static void main(String[] args) {
@@ -73,6 +73,7 @@ public class SecurityConfig {
                         ).permitAll()
                         .requestMatchers("/images/**").permitAll()
                         .requestMatchers("/api/images/upload").authenticated()
+                        .requestMatchers("/api/images/manifest").permitAll()
 
                         // 3. 공개 API - 재료, 레시피 (인증 불필요)
                         .requestMatchers(
@@ -14,7 +14,7 @@ public class WebConfig implements WebMvcConfigurer {
 
     @Override
     public void addResourceHandlers(ResourceHandlerRegistry registry) {
-
+        // /images/** 는 ImageFileController가 제공 (sendfile, Range, 캐시 헤더 처리)
     }
 
     @Override
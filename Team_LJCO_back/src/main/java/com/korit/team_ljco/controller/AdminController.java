@@ -4,6 +4,9 @@ import com.korit.team_ljco.dto.RecipeResponse;
 import com.korit.team_ljco.entity.Ingredient;
 import com.korit.team_ljco.entity.Recipe;
 import com.korit.team_ljco.entity.User;
+import com.korit.team_ljco.service.AdminExportService;
+import com.korit.team_ljco.service.DashboardStatsService;
+import com.korit.team_ljco.service.ImageGarbageCollector;
 import com.korit.team_ljco.service.IngredientService;
 import com.korit.team_ljco.service.RecipeService;
 import com.korit.team_ljco.service.UserService;
@@ -12,9 +15,11 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDateTime;
 import java.util.HashMap;
@@ -31,6 +36,9 @@ public class AdminController {
     private final IngredientService ingredientService;
     private final RecipeService recipeService;
     private final UserServiceImpl userServiceImpl;
+    private final AdminExportService adminExportService;
+    private final DashboardStatsService dashboardStatsService;
+    private final ImageGarbageCollector imageGarbageCollector;
 
     @PostMapping("/login")
     public ResponseEntity<Map<String, String>> adminLogin(
@@ -44,15 +52,10 @@ public class AdminController {
         return ResponseEntity.ok(Map.of("token", token));
     }
 
-    @Operation(summary = "대시보드 통계 조회", description = "전체 사용자, 재료, 레시피 통계")
+    @Operation(summary = "대시보드 통계 조회", description = "전체 사용자, 재료, 레시피, 보유 재료 통계")
     @GetMapping("/dashboard/stats")
     public ResponseEntity<Map<String, Object>> getDashboardStats() {
-        Map<String, Object> stats = new HashMap<>();
-
-        stats.put("totalUsers", userService.getTotalUserCount());
-        stats.put("totalIngredients", ingredientService.getAllIngredients().size());
-        stats.put("totalRecipes", recipeService.getAllRecipes().size());
-
+        Map<String, Object> stats = dashboardStatsService.getStats();
         return ResponseEntity.ok(stats);
     }
 
@@ -63,6 +66,22 @@ public class AdminController {
         return ResponseEntity.ok(users);
     }
 
+    @Operation(summary = "사용자 내보내기",
+            description = "전체 사용자를 스트리밍으로 내려받음 (format: json | ndjson, limit 없으면 offset부터 끝까지)")
+    @GetMapping("/users/export")
+    public ResponseEntity<StreamingResponseBody> exportUsers(
+            @RequestParam(defaultValue = "json") String format,
+            @RequestParam(defaultValue = "0") int offset,
+            @RequestParam(required = false) Integer limit) {
+        try {
+            StreamingResponseBody body = adminExportService.exportUsers(format, offset, limit);
+            return ResponseEntity.ok().contentType(exportMediaType(format)).body(body);
+        } catch (IllegalArgumentException e) {
+            // 지원하지 않는 format, 음수 offset/limit
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     @Operation(summary = "사용자 검색",
             description = "이름, 이메일, 역할, 제공자, 가입날짜로 검색")
     @GetMapping("/users/search")
@@ -146,6 +165,21 @@ public class AdminController {
         return ResponseEntity.ok(recipes);
     }
 
+    @Operation(summary = "레시피 내보내기",
+            description = "전체 레시피를 스트리밍으로 내려받음 (format: json | ndjson, limit 없으면 offset부터 끝까지)")
+    @GetMapping("/recipes/export")
+    public ResponseEntity<StreamingResponseBody> exportRecipes(
+            @RequestParam(defaultValue = "json") String format,
+            @RequestParam(defaultValue = "0") int offset,
+            @RequestParam(required = false) Integer limit) {
+        try {
+            StreamingResponseBody body = adminExportService.exportRecipes(format, offset, limit);
+            return ResponseEntity.ok().contentType(exportMediaType(format)).body(body);
+        } catch (IllegalArgumentException e) {
+            // 지원하지 않는 format, 음수 offset/limit
+            return ResponseEntity.badRequest().build();
+        }
+    }
 
     @Operation(summary = "레시피 검색", description = "레시피명으로 검색")
     @GetMapping("/recipes/search")
@@ -172,4 +206,17 @@ public class AdminController {
         recipeService.deleteRecipe(rcpId);
         return ResponseEntity.noContent().build();
     }
-}
\ No newline at end of file
+
+    @Operation(summary = "미사용 이미지 확인",
+            description = "어디에서도 참조하지 않고 유예 시간이 지난 업로드 이미지 목록 (삭제하지 않음)")
+    @GetMapping("/images/orphans")
+    public ResponseEntity<Map<String, Object>> getOrphanImages() {
+        return ResponseEntity.ok(imageGarbageCollector.report());
+    }
+
+    private MediaType exportMediaType(String format) {
+        return AdminExportService.FORMAT_NDJSON.equalsIgnoreCase(format)
+                ? MediaType.APPLICATION_NDJSON
+                : MediaType.APPLICATION_JSON;
+    }
+}
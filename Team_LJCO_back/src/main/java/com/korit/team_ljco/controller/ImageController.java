@@ -1,13 +1,16 @@
 package com.korit.team_ljco.controller;
 
 import com.korit.team_ljco.service.ImageService;
+import com.korit.team_ljco.service.ImageVariantService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 @RestController
 @RequestMapping("/api/images")
@@ -15,26 +18,37 @@ import java.util.Map;
 public class ImageController {
 
     private final ImageService imageService;
+    private final ImageVariantService imageVariantService;
 
+    // 기본 재료 이미지 → 너비별 최적화본 URL (빌드마다 바뀌므로 짧게 캐시)
+    @GetMapping("/manifest")
+    public ResponseEntity<Map<String, Map<Integer, String>>> getBundledManifest() {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(1, TimeUnit.HOURS).cachePublic())
+                .body(imageService.bundledManifest());
+    }
+
+    // srcset: 너비 → 축소본 URL (백그라운드에서 생성, 생성 전에는 원본이 제공됨)
     @PostMapping("/upload")
-    public ResponseEntity<Map<String, String>> uploadImage(
+    public ResponseEntity<Map<String, Object>> uploadImage(
             @RequestParam("file") MultipartFile file) {
 
         try {
             String imageUrl = imageService.saveImage(file);
 
-            Map<String, String> response = new HashMap<>();
+            Map<String, Object> response = new HashMap<>();
             response.put("imageUrl", imageUrl);
+            response.put("srcset", imageVariantService.scheduleVariants(imageUrl));
 
             return ResponseEntity.ok(response);
 
         } catch (IllegalArgumentException e) {
-            Map<String, String> error = new HashMap<>();
+            Map<String, Object> error = new HashMap<>();
             error.put("error", e.getMessage());
             return ResponseEntity.badRequest().body(error);
 
         } catch (Exception e) {
-            Map<String, String> error = new HashMap<>();
+            Map<String, Object> error = new HashMap<>();
             error.put("error", "이미지 업로드 중 오류가 발생했습니다.");
             return ResponseEntity.internalServerError().body(error);
         }
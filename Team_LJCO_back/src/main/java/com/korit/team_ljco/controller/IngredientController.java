@@ -1,7 +1,9 @@
 package com.korit.team_ljco.controller;
 
+import com.korit.team_ljco.dto.IngredientSpriteResponse;
 import com.korit.team_ljco.entity.Ingredient;
 import com.korit.team_ljco.entity.IngredientCategory;
+import com.korit.team_ljco.service.CatalogVersion;
 import com.korit.team_ljco.service.IngredientService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -11,6 +13,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -21,6 +24,7 @@ import java.util.List;
 public class IngredientController {
 
     private final IngredientService ingredientService;
+    private final CatalogVersion catalogVersion;
 
     @Operation(summary = "전체 재료 조회", description = "데이터베이스에 등록된 모든 재료를 조회합니다.")
     @ApiResponses({
@@ -28,7 +32,10 @@ public class IngredientController {
             @ApiResponse(responseCode = "500", description = "서버 오류")
     })
     @GetMapping
-    public ResponseEntity<List<Ingredient>> getAllIngredients() {
+    public ResponseEntity<List<Ingredient>> getAllIngredients(WebRequest webRequest) {
+        if (webRequest.checkNotModified(catalogVersion.ingredientETag())) {
+            return null;
+        }
         List<Ingredient> ingredients = ingredientService.getAllIngredients();
         return ResponseEntity.ok(ingredients);
     }
@@ -42,7 +49,11 @@ public class IngredientController {
     @GetMapping("/{ingId}")
     public ResponseEntity<Ingredient> getIngredientById(
             @Parameter(description = "재료 ID", example = "1", required = true)
-            @PathVariable Integer ingId) {
+            @PathVariable Integer ingId,
+            WebRequest webRequest) {
+        if (webRequest.checkNotModified(catalogVersion.ingredientETag())) {
+            return null;
+        }
         Ingredient ingredient = ingredientService.getIngredientById(ingId);
         return ResponseEntity.ok(ingredient);
     }
@@ -55,7 +66,11 @@ public class IngredientController {
     @GetMapping("/category/{ingCatId}")
     public ResponseEntity<List<Ingredient>> getIngredientsByCategory(
             @Parameter(description = "카테고리 ID", example = "1", required = true)
-            @PathVariable Integer ingCatId) {
+            @PathVariable Integer ingCatId,
+            WebRequest webRequest) {
+        if (webRequest.checkNotModified(catalogVersion.ingredientETag())) {
+            return null;
+        }
         List<Ingredient> ingredients = ingredientService.getIngredientsByCategory(ingCatId);
         return ResponseEntity.ok(ingredients);
     }
@@ -68,11 +83,34 @@ public class IngredientController {
     @GetMapping("/search")
     public ResponseEntity<List<Ingredient>> searchIngredients(
             @Parameter(description = "검색 키워드", example = "양파", required = true)
-            @RequestParam String keyword) {
+            @RequestParam String keyword,
+            WebRequest webRequest) {
+        if (webRequest.checkNotModified(catalogVersion.ingredientETag())) {
+            return null;
+        }
         List<Ingredient> ingredients = ingredientService.searchIngredients(keyword);
         return ResponseEntity.ok(ingredients);
     }
 
+    @Operation(summary = "재료 자동완성", description = "재료명 또는 초성(예: ㅇㅍ)으로 시작하는 재료를 사용 빈도순으로 조회합니다. (최대 20개)")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "500", description = "서버 오류")
+    })
+    @GetMapping("/autocomplete")
+    public ResponseEntity<List<Ingredient>> autocompleteIngredients(
+            @Parameter(description = "입력 중인 재료명 또는 초성", example = "ㅇㅍ", required = true)
+            @RequestParam String keyword,
+            @Parameter(description = "조회할 재료 개수", example = "10")
+            @RequestParam(defaultValue = "10") int limit,
+            WebRequest webRequest) {
+        if (webRequest.checkNotModified(catalogVersion.ingredientETag())) {
+            return null;
+        }
+        List<Ingredient> ingredients = ingredientService.autocompleteIngredients(keyword, limit);
+        return ResponseEntity.ok(ingredients);
+    }
+
     @Operation(summary = "재료 등록", description = "새로운 재료를 등록합니다. (관리자 기능)")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "등록 성공"),
@@ -123,7 +161,10 @@ public class IngredientController {
             @ApiResponse(responseCode = "500", description = "서버 오류")
     })
     @GetMapping("/categories")
-    public ResponseEntity<List<IngredientCategory>> getAllCategories() {
+    public ResponseEntity<List<IngredientCategory>> getAllCategories(WebRequest webRequest) {
+        if (webRequest.checkNotModified(catalogVersion.ingredientETag())) {
+            return null;
+        }
         List<IngredientCategory> categories = ingredientService.getAllCategories();
         return ResponseEntity.ok(categories);
     }
@@ -137,11 +178,33 @@ public class IngredientController {
     @GetMapping("/categories/{ingCatId}")
     public ResponseEntity<IngredientCategory> getCategoryById(
             @Parameter(description = "카테고리 ID", example = "1", required = true)
-            @PathVariable Integer ingCatId) {
+            @PathVariable Integer ingCatId,
+            WebRequest webRequest) {
+        if (webRequest.checkNotModified(catalogVersion.ingredientETag())) {
+            return null;
+        }
         IngredientCategory category = ingredientService.getCategoryById(ingCatId);
         return ResponseEntity.ok(category);
     }
 
+    @Operation(summary = "카테고리 재료 스프라이트 조회",
+            description = "카테고리 재료 아이콘을 한 장에 모은 시트 URL과 재료 ID별 좌표를 조회합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "404", description = "카테고리가 없거나 시트가 아직 만들어지지 않음"),
+            @ApiResponse(responseCode = "500", description = "서버 오류")
+    })
+    @GetMapping("/categories/{ingCatId}/sprite")
+    public ResponseEntity<IngredientSpriteResponse> getCategorySprite(
+            @Parameter(description = "카테고리 ID", example = "1", required = true)
+            @PathVariable Integer ingCatId) {
+        IngredientSpriteResponse sprite = ingredientService.getCategorySprite(ingCatId);
+        if (sprite == null) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(sprite);
+    }
+
     @Operation(summary = "인기 재료 조회", description = "레시피에서 가장 많이 사용되는 재료 목록을 조회합니다.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "조회 성공"),
@@ -150,7 +213,11 @@ public class IngredientController {
     @GetMapping("/popular")
     public ResponseEntity<List<Ingredient>> getPopularIngredients(
             @Parameter(description = "조회할 재료 개수", example = "10")
-            @RequestParam(defaultValue = "10") int limit) {
+            @RequestParam(defaultValue = "10") int limit,
+            WebRequest webRequest) {
+        if (webRequest.checkNotModified(catalogVersion.ingredientETag())) {
+            return null;
+        }
         List<Ingredient> ingredients = ingredientService.getPopularIngredients(limit);
         return ResponseEntity.ok(ingredients);
     }
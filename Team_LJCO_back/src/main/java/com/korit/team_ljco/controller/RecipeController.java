@@ -1,10 +1,15 @@
 package com.korit.team_ljco.controller;
 import com.korit.team_ljco.dto.RecipeListResponse;
 import com.korit.team_ljco.dto.RecipePageResponseDTO;
+import com.korit.team_ljco.dto.RecipeResponse;
 import com.korit.team_ljco.entity.RecipeStep;
+import com.korit.team_ljco.service.CatalogVersion;
 import com.korit.team_ljco.service.RecipeService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.util.List;
 
@@ -14,20 +19,42 @@ import java.util.List;
 public class RecipeController {
 
     private final RecipeService recipeService;
+    private final CatalogVersion catalogVersion;
 
     // 레시피 목록 조회 컨트롤러
+    // cursor 파라미터가 있으면(빈 값 = 첫 페이지) 커서 방식, 없으면 page 방식
+    // 레시피/보유 재료 버전이 그대로면 304 (급상승 순은 수시로 바뀌므로 제외)
     @GetMapping
     public RecipePageResponseDTO getAllRecipes(
             @RequestParam(defaultValue = "1") int page,
             @RequestParam(required = false, defaultValue = "0") Long userId,
             @RequestParam(required = false) String keyword,
-            @RequestParam(required = false, defaultValue = "VIEW_DESC") String sort) {
+            @RequestParam(required = false, defaultValue = "VIEW_DESC") String sort,
+            @RequestParam(required = false) String cursor,
+            WebRequest webRequest) {
+        if (!"TRENDING".equals(sort) && webRequest.checkNotModified(catalogVersion.recipeETag())) {
+            return null;
+        }
+        if (cursor != null) {
+            try {
+                return recipeService.findRecipesAfter(cursor, userId, keyword, sort);
+            } catch (IllegalArgumentException e) {
+                // 변조되었거나 다른 정렬의 커서
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+            }
+        }
         return recipeService.findRecipes(page, userId,keyword,sort);
     }
 
 
+    // 레시피 상세 (재료 + 단계)
+    @GetMapping("/{rcpId:\\d+}")
+    public RecipeResponse getRecipeDetail(@PathVariable Long rcpId) {
+        return recipeService.getRecipeDetail(rcpId);
+    }
+
     // RecipeController.java 파일에 추가
-    @GetMapping("/{rcpId}/steps")
+    @GetMapping("/{rcpId:\\d+}/steps")
     public List<RecipeStep> getRecipeSteps(@PathVariable Long rcpId) {
         return recipeService.getRecipeSteps(rcpId); // 서비스 호출
     }
@@ -0,0 +1,34 @@
+package com.korit.team_ljco.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class IngredientSpriteResponse {
+    //카테고리 재료 아이콘을 한 장에 모은 이미지 (파일명에 내용 해시가 있어 영구 캐시 가능)
+    private Integer ingCatId;
+    private String sheetUrl;
+    private int width;
+    private int height;
+    private int iconSize;
+
+    //재료 ID → 시트 안 위치 (이미지가 없거나 읽지 못한 재료는 빠짐, 원래 ingImgUrl 사용)
+    private Map<Integer, Sprite> sprites;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Sprite {
+        private int x;
+        private int y;
+        private int w;
+        private int h;
+    }
+}
@@ -0,0 +1,38 @@
+package com.korit.team_ljco.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+//레시피 목록 커서 (정렬 종류 + 마지막 정렬 키 + rcp_id)
+//클라이언트에는 base64url 문자열로만 내려감
+
+@Getter
+@AllArgsConstructor
+public class RecipeCursor {
+    private String sort;
+    private long value;
+    private long rcpId;
+
+    public String encode() {
+        String raw = sort + ":" + value + ":" + rcpId;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static RecipeCursor decode(String token, String sort) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split(":");
+            if (parts.length != 3 || !parts[0].equals(sort)) {
+                throw new IllegalArgumentException("잘못된 커서입니다.");
+            }
+            return new RecipeCursor(parts[0], Long.parseLong(parts[1]), Long.parseLong(parts[2]));
+        } catch (IllegalArgumentException e) {
+            // NumberFormatException, Base64 디코딩 오류 포함
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+    }
+}
@@ -17,4 +17,9 @@ public class RecipePageResponseDTO {
     int pageSize;
     int totalCount;
     int totalPages;
+    //true면 totalCount는 상한값(실제로는 그 이상)
+    boolean totalCountApproximate;
+
+    //커서 방식 조회 시 다음 페이지 토큰 (마지막 페이지면 null)
+    String nextCursor;
 }
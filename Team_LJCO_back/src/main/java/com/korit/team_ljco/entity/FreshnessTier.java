@@ -0,0 +1,10 @@
+package com.korit.team_ljco.entity;
+
+/**
+ * 보유 재료 신선도 단계 (등록일 기준)
+ */
+public enum FreshnessTier {
+    FRESH,
+    AGING,
+    EXPIRED
+}
@@ -2,8 +2,10 @@ package com.korit.team_ljco.filter;
 
 import com.korit.team_ljco.entity.User;
 import com.korit.team_ljco.jwt.JwtTokenProvider;
+import com.korit.team_ljco.security.PrincipalCache;
 import com.korit.team_ljco.security.PrincipalUser;
 import com.korit.team_ljco.service.UserService;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -28,6 +30,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider jwtTokenProvider;
     private final UserService userService;
+    private final PrincipalCache principalCache;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
@@ -35,8 +38,11 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         String token = getTokenFromRequest(request);
 
-        if (StringUtils.hasText(token) && jwtTokenProvider.validateToken(token)) {
-            Long userId = jwtTokenProvider.getUserIdFromToken(token);
+        // 서명 검증과 claims 파싱은 한 번만 (검증된 토큰은 캐시에서)
+        Claims claims = StringUtils.hasText(token) ? jwtTokenProvider.parseClaims(token) : null;
+
+        if (claims != null) {
+            Long userId = jwtTokenProvider.getUserId(claims);
 
             // 관리자 토큰 처리 (userId == 0)
             if (userId == 0L) {
@@ -69,23 +75,11 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                 SecurityContextHolder.getContext().setAuthentication(authentication);
             }
-            // 일반 사용자 처리
+            // 일반 사용자 처리 (캐시에 없을 때만 DB 조회)
             else {
-                User user = userService.findUserById(userId);
-
-                if (user != null) {
-                    Map<String, Object> attributes = new HashMap<>();
-                    attributes.put("sub", String.valueOf(user.getUserId()));
-                    attributes.put("name", user.getUserName());
-                    attributes.put("email", user.getUserEmail());
-
-                    PrincipalUser principalUser = new PrincipalUser(
-                            Collections.singleton(new SimpleGrantedAuthority("ROLE_" + user.getUserRole())),
-                            attributes,
-                            "sub",
-                            user
-                    );
+                PrincipalUser principalUser = principalCache.get(userId, this::loadPrincipal);
 
+                if (principalUser != null) {
                     UsernamePasswordAuthenticationToken authentication =
                             new UsernamePasswordAuthenticationToken(
                                     principalUser,
@@ -102,6 +96,25 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    private PrincipalUser loadPrincipal(Long userId) {
+        User user = userService.findUserById(userId);
+        if (user == null) {
+            return null;
+        }
+
+        Map<String, Object> attributes = new HashMap<>();
+        attributes.put("sub", String.valueOf(user.getUserId()));
+        attributes.put("name", user.getUserName());
+        attributes.put("email", user.getUserEmail());
+
+        return new PrincipalUser(
+                Collections.singleton(new SimpleGrantedAuthority("ROLE_" + user.getUserRole())),
+                attributes,
+                "sub",
+                user
+        );
+    }
+
     private String getTokenFromRequest(HttpServletRequest request) {
         String bearerToken = request.getHeader("Authorization");
 
@@ -2,6 +2,7 @@ package com.korit.team_ljco.jwt;
 
 import com.korit.team_ljco.entity.User;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import jakarta.annotation.PostConstruct;
@@ -10,7 +11,14 @@ import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Date;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 @Component
 public class JwtTokenProvider {
@@ -21,14 +29,28 @@ public class JwtTokenProvider {
     @Value("${jwt.expiration:86400000}")
     private long expirationTime;
 
+    // 검증을 마친 토큰 캐시 크기
+    @Value("${jwt.verified-cache-size:10000}")
+    private int verifiedCacheSize;
+
     private SecretKey signingKey;
 
-    /** 🔑 Key는 한 번만 생성 */
+    private JwtParser jwtParser;
+
+    // 토큰 SHA-256 → 검증된 claims (조회는 잠금 없이, 크기를 넘으면 한 스레드만 정리)
+    private final Map<String, Claims> verified = new ConcurrentHashMap<>();
+
+    private final AtomicBoolean trimming = new AtomicBoolean();
+
+    /** 🔑 Key와 파서는 한 번만 생성 */
     @PostConstruct
     private void init() {
         this.signingKey = Keys.hmacShaKeyFor(
                 secretKey.getBytes(StandardCharsets.UTF_8)
         );
+        this.jwtParser = Jwts.parser()
+                .verifyWith(signingKey)
+                .build();
     }
 
     /**
@@ -51,30 +73,70 @@ public class JwtTokenProvider {
     }
 
     /**
-     * 토큰에서 사용자 ID 추출
+     * 토큰 검증 후 claims 반환 (유효하지 않거나 만료되었으면 null)
+     * 한 번 검증한 토큰은 만료 전까지 캐시에서 바로 꺼내 서명 검증을 다시 하지 않는다.
      */
-    public Long getUserIdFromToken(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(signingKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+    public Claims parseClaims(String token) {
+        String key = digest(token);
+        Claims cached = verified.get(key);
+        if (cached != null) {
+            if (cached.getExpiration().after(new Date())) {
+                return cached;
+            }
+            verified.remove(key);
+            return null;
+        }
 
-        return claims.get("userId", Long.class);
+        Claims claims;
+        try {
+            claims = jwtParser.parseSignedClaims(token).getPayload();
+        } catch (Exception e) {
+            return null;
+        }
+        // 만료 시간이 없는 토큰은 캐시하지 않음
+        if (claims.getExpiration() != null) {
+            verified.put(key, claims);
+            if (verified.size() > verifiedCacheSize) {
+                trim();
+            }
+        }
+        return claims;
     }
 
     /**
-     * 토큰 유효성 검증
+     * claims에서 사용자 ID 추출
      */
-    public boolean validateToken(String token) {
+    public Long getUserId(Claims claims) {
+        return claims.get("userId", Long.class);
+    }
+
+    // 만료된 항목을 먼저 지우고, 그래도 크면 임의의 항목을 지워 크기의 90%까지 줄임
+    // (지워진 토큰은 다음 요청에서 서명을 다시 검증할 뿐)
+    private void trim() {
+        if (!trimming.compareAndSet(false, true)) {
+            return;
+        }
         try {
-            Jwts.parser()
-                    .verifyWith(signingKey)
-                    .build()
-                    .parseSignedClaims(token);
-            return true;
-        } catch (Exception e) {
-            return false;
+            Date now = new Date();
+            verified.values().removeIf(claims -> !claims.getExpiration().after(now));
+            int target = verifiedCacheSize * 9 / 10;
+            Iterator<String> keys = verified.keySet().iterator();
+            while (verified.size() > target && keys.hasNext()) {
+                keys.next();
+                keys.remove();
+            }
+        } finally {
+            trimming.set(false);
+        }
+    }
+
+    // 원본 토큰 대신 고정 길이 해시를 캐시 키로 사용
+    private String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
         }
     }
 }
@@ -14,11 +14,11 @@ public interface IngredientMapper {
     Ingredient selectIngredientById(Integer ingId);
     
     List<Ingredient> selectAllIngredients();
+
+    int countIngredients();
     
     List<Ingredient> selectIngredientsByCategory(Integer ingCatId);
     
-    List<Ingredient> searchIngredientsByName(@Param("keyword") String keyword);
-
     // 재료 등록/수정/삭제
     int insertIngredient(Ingredient ingredient);
     
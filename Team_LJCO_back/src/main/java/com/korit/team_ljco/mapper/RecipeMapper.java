@@ -2,38 +2,70 @@ package com.korit.team_ljco.mapper;
 
 import com.korit.team_ljco.dto.RecipeListResponse;
 import com.korit.team_ljco.entity.Recipe;
+import com.korit.team_ljco.entity.RecipeIngredient;
 import com.korit.team_ljco.entity.RecipeStep;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.cursor.Cursor;
 
 import java.util.List;
+import java.util.Map;
 
 @Mapper
 public interface RecipeMapper {
     //메인 레시피 목록 조회
     //페이지 넘김을 고려한 pagesize 생성 => 서비스에서 계산함
+    //매칭률/재료 색상은 RecipeMatchEngine이 메모리에서 계산
     List<RecipeListResponse> getRecipes(@Param("pageSize") int pageSize,
                                         @Param("offset") int offset,
-                                        @Param("userId") Long userId,
                                         @Param("sort") String sort);
 
 
-    List<RecipeListResponse> getRecipesByKeyword(@Param("pageSize") int pageSize,
+    //키워드 검색 결과(검색 색인이 찾은 rcpIds) 안에서 페이지 조회
+    List<RecipeListResponse> getRecipesAmong(@Param("pageSize") int pageSize,
                                         @Param("offset") int offset,
-                                        @Param("userId") Long userId,
-                                        @Param("keyword") String keyword,
+                                        @Param("rcpIds") List<Long> rcpIds,
                                         @Param("sort") String sort);
 
+    //전체 레시피 개수 (limit개까지만 셈)
+    int countRecipes(@Param("limit") int limit);
+
+    //커서(키셋) 방식 목록 조회 - 커서가 없으면 첫 페이지, rcpIds가 있으면 그 안에서만
+    List<RecipeListResponse> getRecipesAfter(@Param("pageSize") int pageSize,
+                                             @Param("rcpIds") List<Long> rcpIds,
+                                             @Param("sort") String sort,
+                                             @Param("cursorValue") Long cursorValue,
+                                             @Param("cursorRcpId") Long cursorRcpId);
+
+    //매칭률 정렬 시 엔진이 고른 페이지의 레시피 카드만 조회
+    List<RecipeListResponse> getRecipesByIds(@Param("rcpIds") List<Long> rcpIds);
+
+    //매칭 엔진 적재용 (rcp_id, ing_id) 전체
+    List<RecipeIngredient> selectAllRecipeIngredientIds();
+
     // 레시피 조회
     Recipe selectRecipeById(Long rcpId);
 
     List<Recipe> selectAllRecipes();
 
-    List<Recipe> searchRecipesByName(@Param("keyword") String keyword);
+    // 레시피 + 재료 + 단계 (한 번의 조회)
+    Recipe selectRecipeDetail(Long rcpId);
+
+    // 관리자 내보내기용 (트랜잭션 안에서 순회해야 함)
+    Cursor<Recipe> streamRecipes(@Param("offset") int offset, @Param("limit") Integer limit);
+
+    // 사용 중인 이미지 URL (레시피/단계/재료/재료 카테고리, 트랜잭션 안에서 순회해야 함)
+    Cursor<String> streamImageUrls();
+
+    //검색 색인 결과 조회용
+    List<Recipe> selectRecipesByIds(@Param("rcpIds") List<Long> rcpIds);
 
     // 레시피 수정/삭제
     int updateRecipe(Recipe recipe);
 
+    // 조회수 일괄 증가 (rcpId → 증가분)
+    int addViewCounts(@Param("deltas") Map<Long, Long> deltas);
+
     int deleteRecipe(Long rcpId);
 
     // 레시피 재료/단계 삭제
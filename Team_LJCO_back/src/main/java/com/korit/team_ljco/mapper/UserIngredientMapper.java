@@ -25,6 +25,11 @@ public interface UserIngredientMapper {
     
     int deleteUserIngredientsByUser(Long userId);
     
+    // 신선도 단계 적재용 (user_ing_id, user_id, ing_id, created_at)
+    List<UserIngredient> selectAllUserIngredientDates();
+
     // 사용자 재료 통계
     int countUserIngredients(Long userId);
+
+    int countAllUserIngredients();
 }
@@ -2,6 +2,8 @@ package com.korit.team_ljco.mapper;
 
 import com.korit.team_ljco.entity.User;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.cursor.Cursor;
 
 import java.util.List;
 import java.util.Map;
@@ -22,4 +24,7 @@ public interface UserMapper {
     int selectTotalUserCount();      // ← 이거 있어요?
     List<User> selectAllUsers();     // ← 이거 있어요?
     List<User> searchUsers(Map<String, Object> params);
+
+    // 관리자 내보내기용 (트랜잭션 안에서 순회해야 함)
+    Cursor<User> streamUsers(@Param("offset") int offset, @Param("limit") Integer limit);
 }
\ No newline at end of file
@@ -0,0 +1,77 @@
+package com.korit.team_ljco.security;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * JWT 인증용 PrincipalUser 캐시 (userId 기준, LRU + TTL)
+ * 요청마다 사용자를 DB에서 다시 읽지 않도록 만들어 둔 PrincipalUser(권한 포함)를 잠시 보관한다.
+ * 사용자 권한 변경/삭제/OAuth2 로그인 정보 갱신 시 UserServiceImpl이 해당 사용자를 비운다.
+ */
+@Component
+public class PrincipalCache {
+
+    @Value("${security.principal-cache.ttl-seconds:60}")
+    private long ttlSeconds;
+
+    @Value("${security.principal-cache.max-size:10000}")
+    private int maxSize;
+
+    private final Map<Long, Entry> principals = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+            return size() > maxSize;
+        }
+    };
+
+    // 무효화할 때마다 증가: 조회 도중 무효화된 사용자를 이전 값으로 다시 채우지 않도록
+    private long generation;
+
+    /**
+     * 캐시에 없거나 만료되었으면 loader로 만들어서 저장 (loader가 null을 주면 저장하지 않음)
+     */
+    public PrincipalUser get(Long userId, Function<Long, PrincipalUser> loader) {
+        long seen;
+        synchronized (principals) {
+            Entry cached = principals.get(userId);
+            if (cached != null) {
+                if (cached.expiresAt > System.currentTimeMillis()) {
+                    return cached.principal;
+                }
+                principals.remove(userId);
+            }
+            seen = generation;
+        }
+
+        PrincipalUser loaded = loader.apply(userId);
+        if (loaded != null) {
+            synchronized (principals) {
+                if (generation == seen) {
+                    principals.put(userId, new Entry(loaded, System.currentTimeMillis() + ttlSeconds * 1000));
+                }
+            }
+        }
+        return loaded;
+    }
+
+    public void invalidate(Long userId) {
+        synchronized (principals) {
+            generation++;
+            principals.remove(userId);
+        }
+    }
+
+    private static final class Entry {
+        final PrincipalUser principal;
+        final long expiresAt;
+
+        Entry(PrincipalUser principal, long expiresAt) {
+            this.principal = principal;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
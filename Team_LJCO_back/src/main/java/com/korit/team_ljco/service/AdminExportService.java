@@ -0,0 +1,112 @@
+package com.korit.team_ljco.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.korit.team_ljco.dto.RecipeResponse;
+import com.korit.team_ljco.mapper.RecipeMapper;
+import com.korit.team_ljco.mapper.UserMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.ibatis.cursor.Cursor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 관리자 전체 목록 내보내기
+ * MyBatis Cursor로 한 행씩 읽어 바로 응답에 쓰므로 테이블 크기와 무관하게 메모리 사용이 일정하다.
+ * 형식은 JSON 배열(json) 또는 한 줄에 한 건(ndjson).
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AdminExportService {
+
+    public static final String FORMAT_JSON = "json";
+    public static final String FORMAT_NDJSON = "ndjson";
+
+    // 이 개수마다 클라이언트로 flush
+    private static final int FLUSH_EVERY = 100;
+
+    private final RecipeMapper recipeMapper;
+    private final UserMapper userMapper;
+    private final ObjectMapper objectMapper;
+    private final PlatformTransactionManager transactionManager;
+
+    /**
+     * 레시피 내보내기 (rcp_id 오름차순, limit 없으면 offset부터 끝까지)
+     */
+    public StreamingResponseBody exportRecipes(String format, int offset, Integer limit) {
+        checkRange(offset, limit);
+        return stream(format, () -> recipeMapper.streamRecipes(offset, limit), RecipeResponse::from);
+    }
+
+    /**
+     * 사용자 내보내기 (user_id 오름차순, limit 없으면 offset부터 끝까지)
+     */
+    public StreamingResponseBody exportUsers(String format, int offset, Integer limit) {
+        checkRange(offset, limit);
+        return stream(format, () -> userMapper.streamUsers(offset, limit), user -> user);
+    }
+
+    private <T> StreamingResponseBody stream(String format, Supplier<Cursor<T>> query, Function<T, ?> mapper) {
+        boolean ndjson = checkFormat(format);
+
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        tx.setReadOnly(true);
+
+        // 응답 스레드에서 실행되므로 Cursor가 열려 있도록 트랜잭션을 직접 잡는다
+        return out -> tx.executeWithoutResult(status -> {
+            try (Cursor<T> cursor = query.get();
+                 JsonGenerator gen = objectMapper.getFactory().createGenerator(out)) {
+                gen.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                if (ndjson) {
+                    gen.setRootValueSeparator(new SerializedString("\n"));
+                } else {
+                    gen.writeStartArray();
+                }
+
+                int written = 0;
+                for (T row : cursor) {
+                    gen.writeObject(mapper.apply(row));
+                    if (++written % FLUSH_EVERY == 0) {
+                        gen.flush();
+                    }
+                }
+
+                if (ndjson) {
+                    gen.writeRaw('\n');
+                } else {
+                    gen.writeEndArray();
+                }
+                gen.flush();
+                log.info("관리자 내보내기 완료: {}건", written);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    private void checkRange(int offset, Integer limit) {
+        if (offset < 0 || (limit != null && limit < 0)) {
+            throw new IllegalArgumentException("offset과 limit은 0 이상이어야 합니다.");
+        }
+    }
+
+    private boolean checkFormat(String format) {
+        if (FORMAT_NDJSON.equalsIgnoreCase(format)) {
+            return true;
+        }
+        if (format == null || FORMAT_JSON.equalsIgnoreCase(format)) {
+            return false;
+        }
+        throw new IllegalArgumentException("지원하지 않는 형식입니다: " + format);
+    }
+}
@@ -0,0 +1,138 @@
+package com.korit.team_ljco.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * jar에 포함된 재료 이미지(static/images)
+ * jar 안의 파일은 파일 채널로 보낼 수 없으므로 시작 시 한 번 디스크(file.bundle-dir)로 풀어 두고
+ * 이후에는 일반 파일처럼 제공한다.
+ * 빌드 때 만든 너비별 최적화본(static/images-optimized, BundledImageOptimizer)과 그 매니페스트도 함께 읽는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BundledImages {
+
+    private static final String CLASSPATH_PATTERN = "classpath:static/images/*";
+    private static final String OPTIMIZED_PATTERN = "classpath:static/images-optimized/*.png";
+    // BundledImageOptimizer.MANIFEST (빌드 도구는 jar에 들어가지 않으므로 직접 적음)
+    private static final String MANIFEST_LOCATION = "static/images-optimized/manifest.json";
+
+    private final ObjectMapper objectMapper;
+
+    @Value("${file.bundle-dir:./uploads/bundled}")
+    private String bundleDir;
+
+    // 원본 파일명 → 너비 → 최적화본 파일명
+    private Map<String, Map<Integer, String>> manifest = Map.of();
+    private Set<String> optimized = Set.of();
+
+    @PostConstruct
+    public void init() throws IOException {
+        Path dir = Paths.get(bundleDir);
+        Files.createDirectories(dir);
+
+        int extracted = extract(dir, CLASSPATH_PATTERN) + extract(dir, OPTIMIZED_PATTERN);
+        loadManifest();
+        log.info("기본 재료 이미지 준비 완료: {}개 추출, 최적화본 {}개", extracted, optimized.size());
+    }
+
+    /**
+     * 원본 파일명 → 너비 → 최적화본 파일명 (빌드 단계를 거치지 않았으면 빈 맵)
+     */
+    public Map<String, Map<Integer, String>> manifest() {
+        return manifest;
+    }
+
+    /**
+     * 빌드 때 만든 최적화본인지 (파일명에 내용 해시가 있어 영구 캐시 가능)
+     */
+    public boolean isOptimized(String filename) {
+        return optimized.contains(filename);
+    }
+
+    private int extract(Path dir, String pattern) throws IOException {
+        int extracted = 0;
+        Resource[] resources = new PathMatchingResourcePatternResolver().getResources(pattern);
+        for (Resource resource : resources) {
+            String name = resource.getFilename();
+            if (name == null || !resource.isReadable()) {
+                continue;
+            }
+            Path target = dir.resolve(name);
+            // 내용이 같을 때만 이전 실행에서 풀어 둔 파일 재사용 (크기만 같고 내용이 바뀐 이미지도 있음)
+            if (Files.exists(target) && Files.size(target) == resource.contentLength()
+                    && sameContent(resource, target)) {
+                continue;
+            }
+            try (InputStream in = resource.getInputStream()) {
+                Files.copy(in, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+            extracted++;
+        }
+        return extracted;
+    }
+
+    private boolean sameContent(Resource resource, Path file) throws IOException {
+        try (InputStream a = new BufferedInputStream(resource.getInputStream());
+             InputStream b = new BufferedInputStream(Files.newInputStream(file))) {
+            int x;
+            do {
+                x = a.read();
+                if (x != b.read()) {
+                    return false;
+                }
+            } while (x != -1);
+            return true;
+        }
+    }
+
+    private void loadManifest() throws IOException {
+        ClassPathResource resource = new ClassPathResource(MANIFEST_LOCATION);
+        if (!resource.exists()) {
+            log.warn("기본 이미지 매니페스트 없음 (빌드 시 이미지 최적화 단계를 건너뜀): {}", MANIFEST_LOCATION);
+            return;
+        }
+        Map<String, Map<Integer, String>> loaded;
+        try (InputStream in = resource.getInputStream()) {
+            loaded = objectMapper.readValue(in, new TypeReference<Map<String, Map<Integer, String>>>() {});
+        }
+        Set<String> names = new HashSet<>();
+        loaded.values().forEach(variants -> names.addAll(variants.values()));
+        this.manifest = Collections.unmodifiableMap(loaded);
+        this.optimized = Set.copyOf(names);
+    }
+
+    /**
+     * 파일명으로 디스크 경로 조회 (없으면 null)
+     */
+    public Path resolve(String filename) {
+        Path path = Paths.get(bundleDir, filename);
+        return Files.isRegularFile(path) ? path : null;
+    }
+
+    public Path directory() {
+        return Paths.get(bundleDir);
+    }
+}
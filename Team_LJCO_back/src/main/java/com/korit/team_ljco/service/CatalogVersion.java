@@ -0,0 +1,48 @@
+package com.korit.team_ljco.service;
+
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 조건부 응답(ETag)용 데이터 버전
+ * 재료/레시피/보유 재료 데이터가 실제로 바뀌는 곳에서 올리고, 컨트롤러는 버전만 보고
+ * If-None-Match가 같으면 매퍼 조회와 JSON 변환 없이 304를 돌려준다.
+ * 재시작 후에도 예전 ETag와 겹치지 않도록 시작 시각에서 출발한다.
+ */
+@Component
+public class CatalogVersion {
+
+    private final AtomicLong ingredients = new AtomicLong(System.currentTimeMillis());
+    private final AtomicLong recipes = new AtomicLong(System.currentTimeMillis());
+    private final AtomicLong pantries = new AtomicLong(System.currentTimeMillis());
+
+    /**
+     * 재료/카테고리 카탈로그나 재료 사용 빈도가 바뀌었을 때
+     */
+    public void bumpIngredients() {
+        ingredients.incrementAndGet();
+    }
+
+    /**
+     * 레시피 정보(이름, 이미지, 재료, 조회수 등)가 바뀌었을 때
+     */
+    public void bumpRecipes() {
+        recipes.incrementAndGet();
+    }
+
+    /**
+     * 사용자 보유 재료나 신선도 단계가 바뀌었을 때 (매칭률/색상)
+     */
+    public void bumpPantries() {
+        pantries.incrementAndGet();
+    }
+
+    public String ingredientETag() {
+        return "\"i" + ingredients.get() + "\"";
+    }
+
+    public String recipeETag() {
+        return "\"r" + recipes.get() + "-p" + pantries.get() + "\"";
+    }
+}
@@ -0,0 +1,98 @@
+package com.korit.team_ljco.service;
+
+import com.korit.team_ljco.mapper.IngredientMapper;
+import com.korit.team_ljco.mapper.RecipeMapper;
+import com.korit.team_ljco.mapper.UserIngredientMapper;
+import com.korit.team_ljco.mapper.UserMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 관리자 대시보드 통계 카운터
+ * 시작 시 COUNT 쿼리로 채우고 이후에는 등록/삭제 경로에서 증감만 한다.
+ * 직접 DB를 고친 경우 등 어긋난 값은 주기적인 재동기화로 바로잡는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DashboardStatsService {
+
+    private final UserMapper userMapper;
+    private final IngredientMapper ingredientMapper;
+    private final RecipeMapper recipeMapper;
+    private final UserIngredientMapper userIngredientMapper;
+
+    private final AtomicLong users = new AtomicLong();
+    private final AtomicLong ingredients = new AtomicLong();
+    private final AtomicLong recipes = new AtomicLong();
+    private final AtomicLong pantryItems = new AtomicLong();
+
+    @PostConstruct
+    public void init() {
+        resync();
+    }
+
+    /**
+     * COUNT 쿼리로 전체 카운터 재설정 (기본 1시간마다)
+     */
+    @Scheduled(fixedDelayString = "${stats.resync-ms:3600000}", initialDelayString = "${stats.resync-ms:3600000}")
+    public void resync() {
+        users.set(userMapper.selectTotalUserCount());
+        ingredients.set(ingredientMapper.countIngredients());
+        recipes.set(recipeMapper.countRecipes(Integer.MAX_VALUE));
+        pantryItems.set(userIngredientMapper.countAllUserIngredients());
+        log.info("대시보드 통계 동기화: 사용자 {}, 재료 {}, 레시피 {}, 보유 재료 {}",
+                users.get(), ingredients.get(), recipes.get(), pantryItems.get());
+    }
+
+    /**
+     * 대시보드 통계 (DB 조회 없음)
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("totalUsers", users.get());
+        stats.put("totalIngredients", ingredients.get());
+        stats.put("totalRecipes", recipes.get());
+        stats.put("totalPantryItems", pantryItems.get());
+        return stats;
+    }
+
+    public void onUserCreated() {
+        users.incrementAndGet();
+    }
+
+    /**
+     * 사용자 삭제 시 (보유 재료가 함께 지워졌는지는 DB 설정에 따르므로 다시 센다)
+     */
+    public void onUserDeleted() {
+        users.decrementAndGet();
+        pantryItems.set(userIngredientMapper.countAllUserIngredients());
+    }
+
+    public void onIngredientCreated() {
+        ingredients.incrementAndGet();
+    }
+
+    public void onIngredientDeleted() {
+        ingredients.decrementAndGet();
+    }
+
+    public void onRecipeDeleted() {
+        recipes.decrementAndGet();
+    }
+
+    public void onPantryItemsAdded(int count) {
+        pantryItems.addAndGet(count);
+    }
+
+    public void onPantryItemsRemoved(int count) {
+        pantryItems.addAndGet(-count);
+    }
+}
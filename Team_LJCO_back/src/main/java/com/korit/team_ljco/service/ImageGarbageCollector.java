@@ -0,0 +1,199 @@
+package com.korit.team_ljco.service;
+
+import com.korit.team_ljco.mapper.RecipeMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.ibatis.cursor.Cursor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 업로드 디렉토리의 미사용 이미지 정리
+ * 레시피/단계/재료/재료 카테고리 이미지 URL을 Cursor로 읽어 사용 중인 파일명 집합을 만든 뒤 업로드 디렉토리를 돌며
+ * 어디에서도 참조하지 않고 유예 시간이 지난 파일(축소본, 참조 수 파일, 남은 임시 파일 포함)을 지운다.
+ * 삭제는 일정 개수씩 묶어서 처리한다. 유예 시간은 업로드 직후 아직 저장되지 않은 이미지를 보호한다.
+ */
+@Slf4j
+@Service
+public class ImageGarbageCollector {
+
+    // 한 번에 삭제할 파일 수
+    private static final int BATCH_SIZE = 500;
+
+    // 보고서에 담을 파일명 최대 개수
+    private static final int REPORT_LIMIT = 1000;
+
+    // 축소본/참조 수 파일 → 원본 파일명
+    private static final Pattern DERIVED_FILENAME = Pattern.compile("(.+?)(_w\\d+)?(\\.[A-Za-z0-9]+)(\\.refs)?");
+
+    private final RecipeMapper recipeMapper;
+    private final ImageService imageService;
+    private final TransactionTemplate readOnlyTx;
+    private final Path uploadDir;
+    private final Duration grace;
+
+    public ImageGarbageCollector(RecipeMapper recipeMapper,
+                                 ImageService imageService,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${file.upload-dir}") String uploadDir,
+                                 @Value("${image.gc.grace-hours:24}") long graceHours) {
+        this.recipeMapper = recipeMapper;
+        this.imageService = imageService;
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+        this.uploadDir = Paths.get(uploadDir);
+        this.grace = Duration.ofHours(graceHours);
+    }
+
+    /**
+     * 미사용 이미지 삭제 (기본 하루마다)
+     */
+    @Scheduled(fixedDelayString = "${image.gc.interval-ms:86400000}",
+            initialDelayString = "${image.gc.interval-ms:86400000}")
+    public void collect() {
+        Map<String, Object> result = run(false);
+        log.info("미사용 이미지 정리: 검사 {}개, 삭제 {}개 ({} bytes)",
+                result.get("scanned"), result.get("orphans"), result.get("orphanBytes"));
+    }
+
+    /**
+     * 삭제하지 않고 정리 대상만 보고 (dry-run)
+     */
+    public Map<String, Object> report() {
+        return run(true);
+    }
+
+    private synchronized Map<String, Object> run(boolean dryRun) {
+        Map<String, Object> result = new HashMap<>();
+        result.put("dryRun", dryRun);
+        if (!Files.isDirectory(uploadDir)) {
+            result.put("scanned", 0);
+            result.put("referenced", 0);
+            result.put("orphans", 0);
+            result.put("orphanBytes", 0L);
+            result.put("files", List.of());
+            return result;
+        }
+
+        Set<String> referenced = loadReferencedFilenames();
+        Instant cutoff = Instant.now().minus(grace);
+        Sweep sweep = new Sweep(referenced, cutoff, dryRun);
+
+        try {
+            Files.walkFileTree(uploadDir, sweep);
+            sweep.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        result.put("scanned", sweep.scanned);
+        result.put("referenced", referenced.size());
+        result.put("orphans", sweep.orphans);
+        result.put("orphanBytes", sweep.orphanBytes);
+        result.put("files", sweep.reported);
+        return result;
+    }
+
+    // DB의 이미지 URL을 한 행씩 읽어 파일명만 모음
+    private Set<String> loadReferencedFilenames() {
+        Set<String> names = new HashSet<>();
+        readOnlyTx.executeWithoutResult(status -> {
+            try (Cursor<String> cursor = recipeMapper.streamImageUrls()) {
+                for (String url : cursor) {
+                    if (url != null && !url.isBlank()) {
+                        names.add(url.substring(url.lastIndexOf('/') + 1).trim());
+                    }
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        return names;
+    }
+
+    private final class Sweep extends SimpleFileVisitor<Path> {
+
+        private final Set<String> referenced;
+        private final Instant cutoff;
+        private final boolean dryRun;
+        private final List<Path> batch = new ArrayList<>(BATCH_SIZE);
+        private final List<String> reported = new ArrayList<>();
+
+        private int scanned;
+        private int orphans;
+        private long orphanBytes;
+
+        private Sweep(Set<String> referenced, Instant cutoff, boolean dryRun) {
+            this.referenced = referenced;
+            this.cutoff = cutoff;
+            this.dryRun = dryRun;
+        }
+
+        @Override
+        public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+            scanned++;
+            String name = file.getFileName().toString();
+            if (attrs.lastModifiedTime().toInstant().isAfter(cutoff) || referenced.contains(originalName(name))) {
+                return FileVisitResult.CONTINUE;
+            }
+
+            orphans++;
+            orphanBytes += attrs.size();
+            if (reported.size() < REPORT_LIMIT) {
+                reported.add(uploadDir.relativize(file).toString());
+            }
+            if (!dryRun) {
+                batch.add(file);
+                if (batch.size() >= BATCH_SIZE) {
+                    flush();
+                }
+            }
+            return FileVisitResult.CONTINUE;
+        }
+
+        @Override
+        public FileVisitResult visitFileFailed(Path file, IOException e) {
+            log.warn("이미지 파일 확인 실패: {} ({})", file, e.getMessage());
+            return FileVisitResult.CONTINUE;
+        }
+
+        // 판단한 뒤 삭제 전에 다시 업로드될 수 있으므로 업로드와 같은 잠금 안에서 수정 시각을 다시 확인
+        private void flush() {
+            for (Path file : batch) {
+                try {
+                    imageService.deleteIfOlderThan(file, cutoff);
+                } catch (IOException e) {
+                    log.warn("미사용 이미지 삭제 실패: {} ({})", file, e.getMessage());
+                }
+            }
+            batch.clear();
+        }
+
+        // 축소본/참조 수 파일은 원본 파일명으로, 임시 파일은 그대로 (참조될 일이 없으므로 유예 후 삭제)
+        private String originalName(String name) {
+            Matcher m = DERIVED_FILENAME.matcher(name);
+            return m.matches() ? m.group(1) + m.group(3) : name;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.korit.team_ljco.service;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * 이미지 축소/인코딩 (업로드 축소본과 빌드 시 기본 이미지 최적화에서 함께 사용)
+ */
+public final class ImageScaler {
+
+    private ImageScaler() {
+    }
+
+    /**
+     * 너비 targetWidth로 축소 (비율 유지). 절반씩 줄여 가며 축소해 한 번에 크게 줄일 때보다 화질이 낫다.
+     */
+    public static BufferedImage scale(BufferedImage source, int targetWidth, boolean alpha) {
+        int type = alpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+        BufferedImage current = source;
+        int w = source.getWidth();
+        int h;
+        do {
+            w = Math.max(targetWidth, w / 2);
+            h = Math.max(1, (int) ((long) source.getHeight() * w / source.getWidth()));
+            BufferedImage next = new BufferedImage(w, h, type);
+            Graphics2D g = next.createGraphics();
+            try {
+                g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                g.drawImage(current, 0, 0, w, h, null);
+            } finally {
+                g.dispose();
+            }
+            current = next;
+        } while (w > targetWidth);
+        return current;
+    }
+
+    /**
+     * 파일로 저장. compressionQuality가 null이면 기본 설정
+     * (jpg는 화질, png는 0에 가까울수록 강하게 압축 - 무손실이라 화질은 같고 인코딩만 느려짐)
+     */
+    public static void write(BufferedImage image, String format, Float compressionQuality, Path target) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName(format).next();
+        try (ImageOutputStream out = ImageIO.createImageOutputStream(target.toFile())) {
+            writer.setOutput(out);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            if (compressionQuality != null && param.canWriteCompressed()) {
+                param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+                param.setCompressionQuality(compressionQuality);
+            }
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+    }
+}
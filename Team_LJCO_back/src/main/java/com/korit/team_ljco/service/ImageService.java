@@ -1,61 +1,258 @@
 package com.korit.team_ljco.service;
 
+import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.Arrays;
-import java.util.List;
-import java.util.UUID;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 @Service
+@RequiredArgsConstructor
 public class ImageService {
 
+    private final BundledImages bundledImages;
+
     @Value("${file.upload-dir}")
     private String uploadDir;
 
     @Value("${file.base-url}")
     private String baseUrl;
 
-    private static final List<String> ALLOWED_EXTENSIONS = Arrays.asList(
-            "jpg", "jpeg", "png", "gif", "webp"
-    );
-
     private static final long MAX_FILE_SIZE = 10 * 1024 * 1024; // 10MB
 
+    // 스트리밍 복사 버퍼 (업로드 하나당 메모리 사용량은 이 크기로 고정)
+    private static final int BUFFER_SIZE = 8 * 1024;
+
+    // 형식 판별에 필요한 앞부분 길이 (WEBP: RIFF????WEBP)
+    private static final int SIGNATURE_LENGTH = 12;
+
+    // 경로 조작 방지: 디렉토리 구분자나 ..가 없는 단순 파일명만
+    private static final Pattern SAFE_FILENAME = Pattern.compile("[A-Za-z0-9_-][A-Za-z0-9._-]*");
+
+    // 내용 해시(SHA-256) 파일명, 축소본은 _w너비
+    private static final Pattern HASHED_FILENAME = Pattern.compile("[0-9a-f]{64}(_w\\d+)?\\.[a-z0-9]+");
+
+    // 해시 파일명과 이전 업로드 파일명(UUID)은 내용이 바뀌지 않으므로 영구 캐시 가능
+    private static final Pattern IMMUTABLE_FILENAME = Pattern.compile(
+            "([0-9a-f]{64}|[0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12})(_w\\d+)?\\.[A-Za-z0-9]+");
+
+    // 참조 수 파일 확장자 ({해시}.{확장자}.refs)
+    private static final String REFS_SUFFIX = ".refs";
+
+    // 축소본 파일명: {원본}_w{너비}.{확장자}
+    private static final Pattern VARIANT_FILENAME = Pattern.compile("(.+)_w\\d+(\\.[A-Za-z0-9]+)");
+
+    /**
+     * 업로드 이미지 저장
+     * 파일 전체를 메모리에 올리지 않고 고정 크기 버퍼로 임시 파일에 흘려 쓰면서 크기를 세고,
+     * 형식은 확장자/Content-Type 대신 파일 앞부분(매직 바이트)으로 판별한다.
+     * 파일명은 복사하면서 계산한 SHA-256이고, 같은 내용이 이미 있으면 새로 쓰지 않고 참조 수만 올린다.
+     * 한 디렉토리에 파일이 몰리지 않도록 해시 앞 4자리로 나눠 저장한다 (ab/cd/abcd....jpg).
+     */
     public String saveImage(MultipartFile file) throws IOException {
         // 파일 유효성 검사
         validateFile(file);
 
         // 업로드 디렉토리 생성
-        File directory = new File(uploadDir);
-        if (!directory.exists()) {
-            directory.mkdirs();
-        }
+        Path directory = Paths.get(uploadDir);
+        Files.createDirectories(directory);
 
-        // 원본 파일명과 확장자 추출
-        String originalFilename = file.getOriginalFilename();
-        String extension = getFileExtension(originalFilename);
+        Path tmp = Files.createTempFile(directory, "upload-", ".tmp");
+        try {
+            String extension;
+            MessageDigest digest = sha256();
+            try (InputStream in = new DigestInputStream(file.getInputStream(), digest);
+                 OutputStream out = Files.newOutputStream(tmp)) {
+                byte[] buffer = new byte[BUFFER_SIZE];
 
-        // UUID로 고유 파일명 생성
-        String newFilename = UUID.randomUUID().toString() + "." + extension;
+                // 앞부분으로 형식 판별
+                int head = in.readNBytes(buffer, 0, SIGNATURE_LENGTH);
+                extension = detectExtension(buffer, head);
+                if (extension == null) {
+                    throw new IllegalArgumentException(
+                            "허용되지 않는 파일 형식입니다. (jpg, jpeg, png, gif, webp만 가능)"
+                    );
+                }
+                out.write(buffer, 0, head);
 
-        // 파일 저장
-        Path filePath = Paths.get(uploadDir, newFilename);
-        Files.write(filePath, file.getBytes());
+                // 나머지는 크기를 세며 복사
+                long total = head;
+                int read;
+                while ((read = in.read(buffer)) != -1) {
+                    total += read;
+                    if (total > MAX_FILE_SIZE) {
+                        throw new IllegalArgumentException("파일 크기는 10MB를 초과할 수 없습니다.");
+                    }
+                    out.write(buffer, 0, read);
+                }
+            }
 
-        // URL 반환
-        return baseUrl + "/images/" + newFilename;
+            // 내용 해시로 파일명 생성 (확장자는 실제 형식 기준)
+            String newFilename = HexFormat.of().formatHex(digest.digest()) + "." + extension;
+            commit(tmp, newFilename);
+
+            // URL 반환
+            return baseUrl + "/images/" + newFilename;
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
     }
 
-    public void deleteImage(String filename) throws IOException {
-        Path filePath = Paths.get(uploadDir, filename);
+    /**
+     * 이미지 참조 해제. 참조 수가 0이 되면 원본과 축소본을 삭제한다.
+     * 참조 수 파일이 없는 이전 업로드 파일은 참조 1개로 본다.
+     */
+    public synchronized void deleteImage(String filename) throws IOException {
+        if (!isSafeFilename(filename)) {
+            throw new IllegalArgumentException("잘못된 파일명입니다.");
+        }
+        Path filePath = locate(filename);
+        Path refsPath = refsPath(filePath);
+
+        long refs = readRefs(refsPath);
+        if (refs > 1) {
+            Files.writeString(refsPath, Long.toString(refs - 1));
+            return;
+        }
+
         Files.deleteIfExists(filePath);
+        Files.deleteIfExists(refsPath);
+
+        // 축소본도 함께 삭제
+        for (int width : ImageVariantService.WIDTHS) {
+            Files.deleteIfExists(locate(variantName(filename, width)));
+        }
+    }
+
+    /**
+     * /images/{filename} 요청의 실제 파일 경로 (업로드 파일 → 기본 이미지 순, 없으면 null)
+     * 아직 만들어지지 않은 축소본은 원본 경로를 돌려준다.
+     */
+    public Path resolveImage(String filename) {
+        if (!isSafeFilename(filename)) {
+            return null;
+        }
+        Path uploaded = locate(filename);
+        if (Files.isRegularFile(uploaded)) {
+            return uploaded;
+        }
+        Matcher variant = VARIANT_FILENAME.matcher(filename);
+        if (variant.matches()) {
+            Path original = locate(variant.group(1) + variant.group(2));
+            if (Files.isRegularFile(original)) {
+                return original;
+            }
+        }
+        return bundledImages.resolve(filename);
+    }
+
+    /**
+     * 축소본 파일명
+     */
+    public static String variantName(String filename, int width) {
+        int dot = filename.lastIndexOf('.');
+        return filename.substring(0, dot) + "_w" + width + filename.substring(dot);
+    }
+
+    /**
+     * 내용이 절대 바뀌지 않는 파일명인지 (영구 캐시 대상)
+     */
+    public boolean isImmutable(String filename) {
+        return IMMUTABLE_FILENAME.matcher(filename).matches()
+                || bundledImages.isOptimized(filename)
+                || IngredientSpriteAtlas.isSheetName(filename);
+    }
+
+    /**
+     * 기본 재료 이미지 매니페스트: 원본 파일명(ing_img_url의 마지막 부분) → 너비 → 최적화본 URL
+     */
+    public Map<String, Map<Integer, String>> bundledManifest() {
+        Map<String, Map<Integer, String>> result = new LinkedHashMap<>();
+        bundledImages.manifest().forEach((name, variants) -> {
+            Map<Integer, String> urls = new LinkedHashMap<>();
+            variants.forEach((width, file) -> urls.put(width, baseUrl + "/images/" + file));
+            result.put(name, urls);
+        });
+        return result;
+    }
+
+    /**
+     * 미사용 이미지 정리용 삭제: 업로드 저장과 같은 잠금 안에서 수정 시각을 다시 확인하고
+     * 그사이 다시 업로드되어 cutoff보다 새로워졌으면 지우지 않는다.
+     */
+    public synchronized boolean deleteIfOlderThan(Path file, Instant cutoff) throws IOException {
+        if (!Files.exists(file) || Files.getLastModifiedTime(file).toInstant().isAfter(cutoff)) {
+            return false;
+        }
+        return Files.deleteIfExists(file);
+    }
+
+    // 파일명 → 저장 경로 (해시 파일명은 앞 4자리로 나눈 하위 디렉토리, 이전 UUID 파일은 업로드 디렉토리 바로 아래)
+    private Path locate(String filename) {
+        if (HASHED_FILENAME.matcher(filename).matches()) {
+            return Paths.get(uploadDir, filename.substring(0, 2), filename.substring(2, 4), filename);
+        }
+        return Paths.get(uploadDir, filename);
+    }
+
+    // 같은 내용이 이미 있으면 참조 수만 올리고, 없으면 임시 파일을 최종 위치로 이동
+    private synchronized void commit(Path tmp, String filename) throws IOException {
+        Path target = locate(filename);
+        Path refsPath = refsPath(target);
+        if (Files.isRegularFile(target)) {
+            Files.writeString(refsPath, Long.toString(readRefs(refsPath) + 1));
+            // 새 업로드와 같게 취급: 저장 전 미사용 이미지 정리의 유예 시간이 다시 시작되도록
+            Files.setLastModifiedTime(target, FileTime.from(Instant.now()));
+            return;
+        }
+        Files.createDirectories(target.getParent());
+        // 다 쓴 파일만 최종 이름으로 보이도록 이동
+        Files.move(tmp, target, StandardCopyOption.ATOMIC_MOVE);
+        Files.writeString(refsPath, "1");
+    }
+
+    private Path refsPath(Path image) {
+        return image.resolveSibling(image.getFileName() + REFS_SUFFIX);
+    }
+
+    private long readRefs(Path refsPath) throws IOException {
+        if (!Files.isRegularFile(refsPath)) {
+            return 1;
+        }
+        try {
+            return Long.parseLong(Files.readString(refsPath).trim());
+        } catch (NumberFormatException e) {
+            return 1;
+        }
+    }
+
+    private MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private boolean isSafeFilename(String filename) {
+        return filename != null && SAFE_FILENAME.matcher(filename).matches() && !filename.contains("..");
     }
 
     private void validateFile(MultipartFile file) {
@@ -64,32 +261,29 @@ public class ImageService {
             throw new IllegalArgumentException("파일이 비어있습니다.");
         }
 
-        // 파일 크기 확인
+        // 선언된 크기로 먼저 거르고, 실제 크기는 복사하면서 다시 확인
         if (file.getSize() > MAX_FILE_SIZE) {
             throw new IllegalArgumentException("파일 크기는 10MB를 초과할 수 없습니다.");
         }
+    }
 
-        // 파일 확장자 확인
-        String originalFilename = file.getOriginalFilename();
-        String extension = getFileExtension(originalFilename);
-
-        if (!ALLOWED_EXTENSIONS.contains(extension.toLowerCase())) {
-            throw new IllegalArgumentException(
-                    "허용되지 않는 파일 형식입니다. (jpg, jpeg, png, gif, webp만 가능)"
-            );
+    // 매직 바이트로 이미지 형식 판별 (허용 형식이 아니면 null)
+    private String detectExtension(byte[] b, int length) {
+        if (length >= 3 && (b[0] & 0xFF) == 0xFF && (b[1] & 0xFF) == 0xD8 && (b[2] & 0xFF) == 0xFF) {
+            return "jpg";
         }
-
-        // Content-Type 확인
-        String contentType = file.getContentType();
-        if (contentType == null || !contentType.startsWith("image/")) {
-            throw new IllegalArgumentException("이미지 파일만 업로드 가능합니다.");
+        if (length >= 8 && (b[0] & 0xFF) == 0x89 && b[1] == 'P' && b[2] == 'N' && b[3] == 'G'
+                && b[4] == 0x0D && b[5] == 0x0A && b[6] == 0x1A && b[7] == 0x0A) {
+            return "png";
         }
-    }
-
-    private String getFileExtension(String filename) {
-        if (filename == null || !filename.contains(".")) {
-            throw new IllegalArgumentException("잘못된 파일명입니다.");
+        if (length >= 6 && b[0] == 'G' && b[1] == 'I' && b[2] == 'F' && b[3] == '8'
+                && (b[4] == '7' || b[4] == '9') && b[5] == 'a') {
+            return "gif";
+        }
+        if (length >= 12 && b[0] == 'R' && b[1] == 'I' && b[2] == 'F' && b[3] == 'F'
+                && b[8] == 'W' && b[9] == 'E' && b[10] == 'B' && b[11] == 'P') {
+            return "webp";
         }
-        return filename.substring(filename.lastIndexOf(".") + 1);
+        return null;
     }
 }
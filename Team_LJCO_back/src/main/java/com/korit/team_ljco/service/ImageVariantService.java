@@ -0,0 +1,165 @@
+package com.korit.team_ljco.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 업로드 이미지 축소본(160/320/640px) 생성
+ * 업로드 응답에는 원본 크기만 읽어 만들 축소본 URL을 바로 돌려주고, 실제 변환은 크기가 정해진
+ * 전용 스레드 풀에서 한다. 대기열이 가득 차면 요청 스레드를 붙잡지 않고 건너뛰며,
+ * 아직 없는 축소본은 ImageService가 원본으로 대신 제공한다.
+ */
+@Slf4j
+@Service
+public class ImageVariantService {
+
+    public static final List<Integer> WIDTHS = List.of(160, 320, 640);
+
+    private static final float JPEG_QUALITY = 0.8f;
+
+    private final ImageService imageService;
+    private final ThreadPoolExecutor executor;
+    private final long maxPixels;
+
+    public ImageVariantService(ImageService imageService,
+                               @Value("${image.variant.threads:2}") int threads,
+                               @Value("${image.variant.queue-size:32}") int queueSize,
+                               @Value("${image.variant.max-pixels:40000000}") long maxPixels) {
+        this.imageService = imageService;
+        this.maxPixels = maxPixels;
+        AtomicInteger seq = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueSize),
+                r -> {
+                    Thread t = new Thread(r, "image-variant-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * 축소본 생성을 예약하고 너비 → URL 맵 반환 (원본보다 작은 너비만, 지원하지 않는 형식이면 빈 맵)
+     */
+    public Map<Integer, String> scheduleVariants(String imageUrl) {
+        String filename = imageUrl.substring(imageUrl.lastIndexOf('/') + 1);
+        String urlPrefix = imageUrl.substring(0, imageUrl.lastIndexOf('/') + 1);
+        Map<Integer, String> srcset = new LinkedHashMap<>();
+
+        Path original = imageService.resolveImage(filename);
+        String format = formatOf(filename);
+        if (original == null || format == null) {
+            return srcset;
+        }
+
+        // 디코딩하면 크기가 큰 이미지(예: 30000x30000)는 메모리를 넘기므로 헤더의 픽셀 수로 먼저 거름
+        int[] size = readSize(original);
+        if (size == null || (long) size[0] * size[1] > maxPixels) {
+            log.warn("축소본을 만들 수 없는 이미지 건너뜀: {} ({})", filename,
+                    size == null ? "크기 확인 불가" : size[0] + "x" + size[1]);
+            return srcset;
+        }
+        int width = size[0];
+        for (int w : WIDTHS) {
+            if (w < width) {
+                srcset.put(w, urlPrefix + ImageService.variantName(filename, w));
+            }
+        }
+        if (srcset.isEmpty()) {
+            return srcset;
+        }
+
+        try {
+            executor.execute(() -> generate(original, filename, format, srcset.keySet()));
+        } catch (RejectedExecutionException e) {
+            log.warn("축소본 생성 대기열이 가득 차 건너뜀: {}", filename);
+        }
+        return srcset;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void generate(Path original, String filename, String format, Iterable<Integer> widths) {
+        try {
+            BufferedImage source = null;
+            for (int w : widths) {
+                Path target = original.resolveSibling(ImageService.variantName(filename, w));
+                // 같은 내용이 다시 업로드된 경우 이미 만든 축소본 재사용
+                if (Files.exists(target)) {
+                    continue;
+                }
+                if (source == null) {
+                    source = ImageIO.read(original.toFile());
+                    if (source == null) {
+                        return;
+                    }
+                }
+                BufferedImage scaled = ImageScaler.scale(source, w, "png".equals(format));
+                // 다 쓴 뒤에 이름을 바꿔 반쯤 쓴 파일이 제공되지 않도록
+                Path tmp = Files.createTempFile(original.getParent(), "variant-", ".tmp");
+                try {
+                    ImageScaler.write(scaled, format, "jpg".equals(format) ? JPEG_QUALITY : null, tmp);
+                    Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                } finally {
+                    Files.deleteIfExists(tmp);
+                }
+            }
+        } catch (IOException e) {
+            log.warn("축소본 생성 실패: {} ({})", filename, e.getMessage());
+        }
+    }
+
+    // 원본 헤더만 읽어 {너비, 높이} 확인 (전체 디코딩 없음, 읽을 수 없으면 null)
+    private int[] readSize(Path path) {
+        try (ImageInputStream in = ImageIO.createImageInputStream(path.toFile())) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(in);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(in, true, true);
+                return new int[]{reader.getWidth(0), reader.getHeight(0)};
+            } finally {
+                reader.dispose();
+            }
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    // JDK ImageIO로 다시 인코딩할 수 있는 형식만 (gif는 움직임이 사라지므로 제외)
+    private String formatOf(String filename) {
+        String ext = filename.substring(filename.lastIndexOf('.') + 1).toLowerCase();
+        if (ext.equals("jpg") || ext.equals("jpeg")) {
+            return "jpg";
+        }
+        if (ext.equals("png")) {
+            return "png";
+        }
+        return null;
+    }
+}
@@ -0,0 +1,179 @@
+package com.korit.team_ljco.service;
+
+import com.korit.team_ljco.entity.Ingredient;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 재료 자동완성용 불변 접두사 트라이
+ * 재료명과 초성 문자열(양파 → ㅇㅍ)을 모두 색인하고, 각 노드에 사용 빈도 상위 재료를 미리 담아 둔다.
+ * 조회는 DB 없이 접두사 길이만큼 내려간 뒤 노드의 상위 목록을 자르기만 한다.
+ * 사용 빈도 순위가 갱신되면 다음 조회 때 새 트라이를 만들어 통째로 교체한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IngredientAutocomplete {
+
+    // 노드마다 미리 담아 둘 상위 재료 수 (= 조회 limit 최댓값)
+    public static final int MAX_LIMIT = 20;
+
+    private static final String CHOSEONG = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+    private static final char HANGUL_BEGIN = '가';
+    private static final char HANGUL_END = '힣';
+
+    private final IngredientUsageRanking ingredientUsageRanking;
+
+    private volatile Trie trie = Trie.EMPTY;
+
+    /**
+     * 재료명 또는 초성 접두사로 사용 빈도 상위 재료 조회
+     */
+    public List<Ingredient> suggest(String prefix, int limit) {
+        Trie t = current();
+        int n = Math.max(0, Math.min(limit, MAX_LIMIT));
+        String key = prefix == null ? "" : prefix.trim().toLowerCase(Locale.ROOT);
+
+        int[] top = key.isEmpty() ? t.root.top : t.find(key);
+        List<Ingredient> result = new ArrayList<>(Math.min(n, top.length));
+        for (int i = 0; i < top.length && i < n; i++) {
+            result.add(t.ingredients[top[i]]);
+        }
+        return result;
+    }
+
+    // 순위 목록이 바뀌었으면 다시 생성
+    private Trie current() {
+        List<Ingredient> ranked = ingredientUsageRanking.all();
+        Trie t = this.trie;
+        if (t.source == ranked) {
+            return t;
+        }
+        synchronized (this) {
+            t = this.trie;
+            if (t.source != ranked) {
+                t = Trie.build(ranked);
+                this.trie = t;
+                log.info("재료 자동완성 트라이 생성 완료: 재료 {}개", ranked.size());
+            }
+            return t;
+        }
+    }
+
+    // 한글 음절은 초성 자모로, 나머지 문자는 그대로
+    static String toChoseong(String s) {
+        StringBuilder sb = new StringBuilder(s.length());
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c >= HANGUL_BEGIN && c <= HANGUL_END) {
+                sb.append(CHOSEONG.charAt((c - HANGUL_BEGIN) / (21 * 28)));
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    private static final class Trie {
+        static final Trie EMPTY = new Trie(null, new Ingredient[0], new Node(new char[0], new Node[0], new int[0]));
+
+        // 만들 때 사용한 순위 목록
+        final List<Ingredient> source;
+        final Ingredient[] ingredients;
+        final Node root;
+
+        Trie(List<Ingredient> source, Ingredient[] ingredients, Node root) {
+            this.source = source;
+            this.ingredients = ingredients;
+            this.root = root;
+        }
+
+        int[] find(String key) {
+            Node node = root;
+            for (int i = 0; i < key.length() && node != null; i++) {
+                node = node.child(key.charAt(i));
+            }
+            return node == null ? Node.NONE : node.top;
+        }
+
+        // 사용 빈도 순으로 넣으므로 노드마다 먼저 들어온 MAX_LIMIT개가 곧 상위 목록
+        static Trie build(List<Ingredient> ranked) {
+            Ingredient[] ingredients = ranked.toArray(new Ingredient[0]);
+            Builder root = new Builder();
+
+            for (int idx = 0; idx < ingredients.length; idx++) {
+                String name = ingredients[idx].getIngName();
+                if (name == null || name.isBlank()) {
+                    continue;
+                }
+                String normalized = name.trim().toLowerCase(Locale.ROOT);
+                root.add(idx);
+                root.insert(normalized, idx);
+                String choseong = toChoseong(normalized);
+                if (!choseong.equals(normalized)) {
+                    root.insert(choseong, idx);
+                }
+            }
+            return new Trie(ranked, ingredients, root.freeze());
+        }
+    }
+
+    private static final class Node {
+        static final int[] NONE = new int[0];
+
+        final char[] keys;
+        final Node[] children;
+        final int[] top;
+
+        Node(char[] keys, Node[] children, int[] top) {
+            this.keys = keys;
+            this.children = children;
+            this.top = top;
+        }
+
+        Node child(char c) {
+            int pos = Arrays.binarySearch(keys, c);
+            return pos >= 0 ? children[pos] : null;
+        }
+    }
+
+    private static final class Builder {
+        final Map<Character, Builder> children = new TreeMap<>();
+        final List<Integer> top = new ArrayList<>();
+
+        void insert(String key, int idx) {
+            Builder node = this;
+            for (int i = 0; i < key.length(); i++) {
+                node = node.children.computeIfAbsent(key.charAt(i), c -> new Builder());
+                node.add(idx);
+            }
+        }
+
+        // 이름과 초성 경로가 겹치는 노드에 같은 재료가 두 번 들어가지 않도록
+        void add(int idx) {
+            if (top.size() < MAX_LIMIT && (top.isEmpty() || top.get(top.size() - 1) != idx)) {
+                top.add(idx);
+            }
+        }
+
+        Node freeze() {
+            char[] keys = new char[children.size()];
+            Node[] frozen = new Node[children.size()];
+            int i = 0;
+            for (Map.Entry<Character, Builder> e : children.entrySet()) {
+                keys[i] = e.getKey();
+                frozen[i] = e.getValue().freeze();
+                i++;
+            }
+            return new Node(keys, frozen, top.stream().mapToInt(Integer::intValue).toArray());
+        }
+    }
+}
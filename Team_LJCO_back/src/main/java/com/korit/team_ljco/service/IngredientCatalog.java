@@ -0,0 +1,184 @@
+package com.korit.team_ljco.service;
+
+import com.korit.team_ljco.entity.Ingredient;
+import com.korit.team_ljco.entity.IngredientCategory;
+import com.korit.team_ljco.mapper.IngredientMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.text.CollationKey;
+import java.text.Collator;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.ToIntFunction;
+
+/**
+ * 재료/카테고리 카탈로그 불변 스냅샷
+ * 시작 시 한 번 적재하고, 관리자가 재료를 바꾸면 새 스냅샷을 만들어 통째로 교체한다(copy-on-write).
+ * ID 조회는 정렬된 int 배열 이진 탐색, 목록은 이름 정렬(미리 계산한 정렬 키)이 끝난 배열이라
+ * 모든 조회가 잠금 없는 메모리 조회다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IngredientCatalog {
+
+    private final IngredientMapper ingredientMapper;
+    private final CatalogVersion catalogVersion;
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    @PostConstruct
+    public void init() {
+        reload();
+    }
+
+    /**
+     * DB에서 다시 읽어 새 스냅샷으로 교체
+     * 동시에 다시 읽으면 먼저 읽은 쪽이 나중에 교체해 이전 스냅샷이 남을 수 있으므로 한 번에 하나씩
+     */
+    public synchronized void reload() {
+        Snapshot s = Snapshot.build(ingredientMapper.selectAllIngredients(), ingredientMapper.selectAllCategories());
+        this.snapshot = s;
+        catalogVersion.bumpIngredients();
+        log.info("재료 카탈로그 적재 완료: 재료 {}개, 카테고리 {}개", s.ingredients.size(), s.categories.size());
+    }
+
+    /**
+     * 전체 재료 (이름순)
+     */
+    public List<Ingredient> getAllIngredients() {
+        return snapshot.ingredients;
+    }
+
+    /**
+     * 재료 ID로 조회 (없으면 null)
+     */
+    public Ingredient getIngredient(Integer ingId) {
+        Snapshot s = snapshot;
+        int pos = ingId == null ? -1 : Arrays.binarySearch(s.ingIds, ingId);
+        return pos >= 0 ? s.ingredientsById[pos] : null;
+    }
+
+    /**
+     * 카테고리별 재료 (이름순)
+     */
+    public List<Ingredient> getIngredientsByCategory(Integer ingCatId) {
+        Snapshot s = snapshot;
+        int pos = ingCatId == null ? -1 : Arrays.binarySearch(s.catIds, ingCatId);
+        return pos >= 0 ? s.ingredientsByCategory[pos] : List.of();
+    }
+
+    /**
+     * 전체 카테고리 (이름순)
+     */
+    public List<IngredientCategory> getAllCategories() {
+        return snapshot.categories;
+    }
+
+    /**
+     * 카테고리 ID로 조회 (없으면 null)
+     */
+    public IngredientCategory getCategory(Integer ingCatId) {
+        Snapshot s = snapshot;
+        int pos = ingCatId == null ? -1 : Arrays.binarySearch(s.catIds, ingCatId);
+        return pos >= 0 ? s.categoriesById[pos] : null;
+    }
+
+    private static final class Snapshot {
+        static final Snapshot EMPTY = build(List.of(), List.of());
+
+        // 이름순 목록
+        final List<Ingredient> ingredients;
+        final List<IngredientCategory> categories;
+
+        // 정렬된 ID → 같은 위치의 값
+        final int[] ingIds;
+        final Ingredient[] ingredientsById;
+        final int[] catIds;
+        final IngredientCategory[] categoriesById;
+        final List<Ingredient>[] ingredientsByCategory;
+
+        private Snapshot(List<Ingredient> ingredients, List<IngredientCategory> categories,
+                         int[] ingIds, Ingredient[] ingredientsById,
+                         int[] catIds, IngredientCategory[] categoriesById,
+                         List<Ingredient>[] ingredientsByCategory) {
+            this.ingredients = ingredients;
+            this.categories = categories;
+            this.ingIds = ingIds;
+            this.ingredientsById = ingredientsById;
+            this.catIds = catIds;
+            this.categoriesById = categoriesById;
+            this.ingredientsByCategory = ingredientsByCategory;
+        }
+
+        @SuppressWarnings("unchecked")
+        static Snapshot build(List<Ingredient> ingredientRows, List<IngredientCategory> categoryRows) {
+            Collator collator = Collator.getInstance(Locale.KOREAN);
+
+            Ingredient[] byName = sortByName(ingredientRows, Ingredient::getIngName, Ingredient[]::new, collator);
+            IngredientCategory[] catsByName = sortByName(categoryRows, IngredientCategory::getIngCatName,
+                    IngredientCategory[]::new, collator);
+
+            Ingredient[] ingredientsById = sortById(byName, Ingredient::getIngId);
+            int[] ingIds = Arrays.stream(ingredientsById).mapToInt(Ingredient::getIngId).toArray();
+            IngredientCategory[] categoriesById = sortById(catsByName, IngredientCategory::getIngCatId);
+            int[] catIds = Arrays.stream(categoriesById).mapToInt(IngredientCategory::getIngCatId).toArray();
+
+            // 이름순을 유지한 채 카테고리별로 나눔
+            List<Ingredient>[] buckets = new List[catIds.length];
+            for (int i = 0; i < buckets.length; i++) {
+                buckets[i] = new ArrayList<>();
+            }
+            for (Ingredient ingredient : byName) {
+                int pos = ingredient.getIngCatId() == null ? -1 : Arrays.binarySearch(catIds, ingredient.getIngCatId());
+                if (pos >= 0) {
+                    buckets[pos].add(ingredient);
+                }
+            }
+            List<Ingredient>[] byCategory = new List[catIds.length];
+            for (int i = 0; i < buckets.length; i++) {
+                byCategory[i] = Collections.unmodifiableList(Arrays.asList(buckets[i].toArray(new Ingredient[0])));
+            }
+
+            return new Snapshot(
+                    Collections.unmodifiableList(Arrays.asList(byName)),
+                    Collections.unmodifiableList(Arrays.asList(catsByName)),
+                    ingIds, ingredientsById, catIds, categoriesById, byCategory);
+        }
+
+        // 정렬 키를 한 번씩만 계산해서 이름순 정렬
+        private static <T> T[] sortByName(List<T> rows, Function<T, String> name,
+                                          IntFunction<T[]> newArray, Collator collator) {
+            int n = rows.size();
+            CollationKey[] keys = new CollationKey[n];
+            Integer[] order = new Integer[n];
+            for (int i = 0; i < n; i++) {
+                String value = name.apply(rows.get(i));
+                keys[i] = collator.getCollationKey(value == null ? "" : value);
+                order[i] = i;
+            }
+            Arrays.sort(order, Comparator.comparing(i -> keys[i]));
+
+            T[] sorted = newArray.apply(n);
+            for (int i = 0; i < n; i++) {
+                sorted[i] = rows.get(order[i]);
+            }
+            return sorted;
+        }
+
+        private static <T> T[] sortById(T[] rows, ToIntFunction<T> id) {
+            T[] sorted = rows.clone();
+            Arrays.sort(sorted, Comparator.comparingInt(id));
+            return sorted;
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package com.korit.team_ljco.service;
+
+import com.korit.team_ljco.entity.FreshnessTier;
+import com.korit.team_ljco.entity.UserIngredient;
+import com.korit.team_ljco.mapper.UserIngredientMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 보유 재료 신선도 단계 관리
+ * (user, ing)별 단계를 메모리에 미리 계산해 두고, 단계가 바뀌는 날짜 순 우선순위 큐를
+ * 하루 한 번 배치로 소진하면서 FRESH → AGING → EXPIRED 로 넘긴다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class IngredientFreshnessService {
+
+    private final UserIngredientMapper userIngredientMapper;
+    private final CatalogVersion catalogVersion;
+
+    @Value("${freshness.aging-days:15}")
+    private int agingDays;
+
+    @Value("${freshness.expired-days:30}")
+    private int expiredDays;
+
+    // userId → (ingId → 현재 단계)
+    private final Map<Long, Map<Integer, Item>> items = new ConcurrentHashMap<>();
+
+    // 단계 전환 예정일 순
+    private final PriorityQueue<Transition> transitions =
+            new PriorityQueue<>(Comparator.comparing(Transition::getDate));
+
+    @PostConstruct
+    public void init() {
+        int loaded = 0;
+        for (UserIngredient ui : userIngredientMapper.selectAllUserIngredientDates()) {
+            register(ui.getUserId(), ui.getIngId(), ui.getCreatedAt());
+            loaded++;
+        }
+        log.info("재료 신선도 단계 적재 완료: {}개", loaded);
+    }
+
+    /**
+     * 매일 자정 단계 전환 배치
+     */
+    @Scheduled(cron = "${freshness.refresh-cron:0 0 0 * * *}")
+    public void refresh() {
+        LocalDate today = LocalDate.now();
+        int changed = 0;
+
+        synchronized (transitions) {
+            while (!transitions.isEmpty() && !transitions.peek().getDate().isAfter(today)) {
+                Transition t = transitions.poll();
+                Map<Integer, Item> userItems = items.get(t.getUserId());
+                Item item = userItems == null ? null : userItems.get(t.getIngId());
+                // 삭제 후 다시 등록된 재료면 예전 전환은 무시
+                if (item != null && item.createdDate.equals(t.getCreatedDate())) {
+                    item.tier = t.getTier();
+                    changed++;
+                }
+            }
+        }
+        if (changed > 0) {
+            catalogVersion.bumpPantries();
+        }
+        log.info("재료 신선도 단계 갱신: {}개 전환", changed);
+    }
+
+    /**
+     * 미리 계산된 단계 조회 (모르는 재료면 등록일로 계산 후 등록)
+     */
+    public FreshnessTier tierOf(UserIngredient ui) {
+        Map<Integer, Item> userItems = items.get(ui.getUserId());
+        Item item = userItems == null ? null : userItems.get(ui.getIngId());
+        if (item == null) {
+            item = register(ui.getUserId(), ui.getIngId(), ui.getCreatedAt());
+        }
+        return item.tier;
+    }
+
+    /**
+     * 보유 재료 등록 시
+     */
+    public void onIngredientAdded(Long userId, Integer ingId) {
+        register(userId, ingId, LocalDateTime.now());
+    }
+
+    /**
+     * 보유 재료 삭제 시 (큐에 남은 전환은 배치에서 무시됨)
+     */
+    public void onIngredientRemoved(Long userId, Integer ingId) {
+        Map<Integer, Item> userItems = items.get(userId);
+        if (userItems != null) {
+            userItems.remove(ingId);
+        }
+    }
+
+    /**
+     * 보유 재료 전체 삭제 시
+     */
+    public void onAllIngredientsRemoved(Long userId) {
+        items.remove(userId);
+    }
+
+    private Item register(Long userId, Integer ingId, LocalDateTime createdAt) {
+        LocalDate createdDate = createdAt != null ? createdAt.toLocalDate() : LocalDate.now();
+        LocalDate today = LocalDate.now();
+        LocalDate agingDate = createdDate.plusDays(agingDays);
+        LocalDate expiredDate = createdDate.plusDays(expiredDays);
+
+        Item item = new Item(createdDate, FreshnessTier.FRESH);
+        synchronized (transitions) {
+            if (!expiredDate.isAfter(today)) {
+                item.tier = FreshnessTier.EXPIRED;
+            } else if (!agingDate.isAfter(today)) {
+                item.tier = FreshnessTier.AGING;
+                transitions.add(new Transition(expiredDate, userId, ingId, createdDate, FreshnessTier.EXPIRED));
+            } else {
+                transitions.add(new Transition(agingDate, userId, ingId, createdDate, FreshnessTier.AGING));
+                transitions.add(new Transition(expiredDate, userId, ingId, createdDate, FreshnessTier.EXPIRED));
+            }
+        }
+        items.computeIfAbsent(userId, k -> new ConcurrentHashMap<>()).put(ingId, item);
+        return item;
+    }
+
+    private static final class Item {
+        final LocalDate createdDate;
+        volatile FreshnessTier tier;
+
+        Item(LocalDate createdDate, FreshnessTier tier) {
+            this.createdDate = createdDate;
+            this.tier = tier;
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static final class Transition {
+        private final LocalDate date;
+        private final Long userId;
+        private final Integer ingId;
+        private final LocalDate createdDate;
+        private final FreshnessTier tier;
+    }
+}
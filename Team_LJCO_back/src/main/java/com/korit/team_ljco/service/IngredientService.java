@@ -1,5 +1,6 @@
 package com.korit.team_ljco.service;
 
+import com.korit.team_ljco.dto.IngredientSpriteResponse;
 import com.korit.team_ljco.entity.Ingredient;
 import com.korit.team_ljco.entity.IngredientCategory;
 import com.korit.team_ljco.mapper.IngredientMapper;
@@ -9,6 +10,8 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -16,19 +19,29 @@ import java.util.List;
 public class IngredientService {
 
     private final IngredientMapper ingredientMapper;
+    private final NameSearchIndex nameSearchIndex;
+    private final IngredientAutocomplete ingredientAutocomplete;
+    private final IngredientUsageRanking ingredientUsageRanking;
+    private final IngredientCatalog ingredientCatalog;
+    private final IngredientSpriteAtlas ingredientSpriteAtlas;
+    private final DashboardStatsService dashboardStatsService;
+    private final RecipeMatchEngine recipeMatchEngine;
+    private final RecipeCardCache recipeCardCache;
+    private final RecipeDetailCache recipeDetailCache;
+    private final CatalogVersion catalogVersion;
 
     /**
      * 전체 재료 조회
      */
     public List<Ingredient> getAllIngredients() {
-        return ingredientMapper.selectAllIngredients();
+        return ingredientCatalog.getAllIngredients();
     }
 
     /**
      * 재료 ID로 조회
      */
     public Ingredient getIngredientById(Integer ingId) {
-        Ingredient ingredient = ingredientMapper.selectIngredientById(ingId);
+        Ingredient ingredient = ingredientCatalog.getIngredient(ingId);
         if (ingredient == null) {
             throw new RuntimeException("재료를 찾을 수 없습니다. ID: " + ingId);
         }
@@ -39,14 +52,26 @@ public class IngredientService {
      * 카테고리별 재료 조회
      */
     public List<Ingredient> getIngredientsByCategory(Integer ingCatId) {
-        return ingredientMapper.selectIngredientsByCategory(ingCatId);
+        return ingredientCatalog.getIngredientsByCategory(ingCatId);
     }
 
     /**
      * 재료명 검색
      */
     public List<Ingredient> searchIngredients(String keyword) {
-        return ingredientMapper.searchIngredientsByName(keyword);
+        // 검색 색인으로 ID를 찾고(일치 위치/이름 길이 순) 카탈로그에서 꺼냄
+        List<Integer> ingIds = nameSearchIndex.searchIngredients(keyword);
+        return ingIds.stream()
+                .map(ingredientCatalog::getIngredient)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 재료 자동완성 (재료명 또는 초성 접두사, 사용 빈도순)
+     */
+    public List<Ingredient> autocompleteIngredients(String keyword, int limit) {
+        return ingredientAutocomplete.suggest(keyword, limit);
     }
 
     /**
@@ -55,6 +80,11 @@ public class IngredientService {
     @Transactional
     public Ingredient createIngredient(Ingredient ingredient) {
         ingredientMapper.insertIngredient(ingredient);
+        TransactionHooks.afterCommit(() -> {
+            nameSearchIndex.putIngredient(ingredient.getIngId(), ingredient.getIngName());
+            dashboardStatsService.onIngredientCreated();
+        });
+        refreshCatalogAfterCommit();
         return ingredientMapper.selectIngredientById(ingredient.getIngId());
     }
 
@@ -70,6 +100,9 @@ public class IngredientService {
 
         ingredient.setIngId(ingId);
         ingredientMapper.updateIngredient(ingredient);
+        TransactionHooks.afterCommit(() -> nameSearchIndex.putIngredient(ingId, ingredient.getIngName()));
+        refreshCatalogAfterCommit();
+        refreshRecipesAfterCommit();
         return ingredientMapper.selectIngredientById(ingId);
     }
 
@@ -83,20 +116,53 @@ public class IngredientService {
             throw new RuntimeException("재료를 찾을 수 없습니다. ID: " + ingId);
         }
         ingredientMapper.deleteIngredient(ingId);
+        TransactionHooks.afterCommit(() -> {
+            nameSearchIndex.removeIngredient(ingId);
+            dashboardStatsService.onIngredientDeleted();
+        });
+        refreshCatalogAfterCommit();
+        refreshRecipesAfterCommit();
+    }
+
+    // 카탈로그/사용 빈도/스프라이트는 DB를 다시 읽으므로 커밋 전에 읽으면 커밋되지 않은 행이 들어감
+    private void refreshCatalogAfterCommit() {
+        TransactionHooks.afterCommit(() -> {
+            ingredientUsageRanking.refresh();
+            ingredientCatalog.reload();
+            ingredientSpriteAtlas.refresh();
+        });
+    }
+
+    // 레시피 카드/상세/일치율 계산에 재료 이름과 이미지가 들어 있으므로 재료가 바뀌면 함께 갱신
+    // (커밋 전에 비우면 그사이 요청이 이전 값으로 다시 채우므로 커밋 후에)
+    private void refreshRecipesAfterCommit() {
+        TransactionHooks.afterCommit(() -> {
+            recipeMatchEngine.reload();
+            recipeCardCache.invalidate();
+            recipeDetailCache.invalidateAll();
+            catalogVersion.bumpRecipes();
+        });
+    }
+
+    /**
+     * 카테고리 재료 아이콘 스프라이트 시트 (아직 만들어지지 않았으면 null)
+     */
+    public IngredientSpriteResponse getCategorySprite(Integer ingCatId) {
+        return ingredientSpriteAtlas.getSheet(ingCatId);
     }
 
     /**
      * 전체 카테고리 조회
      */
     public List<IngredientCategory> getAllCategories() {
-        return ingredientMapper.selectAllCategories();
+        return ingredientCatalog.getAllCategories();
     }
 
     /**
      * 카테고리 ID로 조회
      */
     public IngredientCategory getCategoryById(Integer ingCatId) {
-        IngredientCategory category = ingredientMapper.selectCategoryById(ingCatId);
+        IngredientCategory category = ingredientCatalog.getCategory(ingCatId);
         if (category == null) {
             throw new RuntimeException("카테고리를 찾을 수 없습니다. ID: " + ingCatId);
         }
@@ -107,6 +173,6 @@ public class IngredientService {
      * 인기 재료 조회 (사용 빈도 기준)
      */
     public List<Ingredient> getPopularIngredients(int limit) {
-        return ingredientMapper.selectTopIngredientsByUsage(limit);
+        return ingredientUsageRanking.top(limit);
     }
 }
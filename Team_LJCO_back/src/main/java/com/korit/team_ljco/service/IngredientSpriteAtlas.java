@@ -0,0 +1,300 @@
+package com.korit.team_ljco.service;
+
+import com.korit.team_ljco.dto.IngredientSpriteResponse;
+import com.korit.team_ljco.entity.Ingredient;
+import com.korit.team_ljco.entity.IngredientCategory;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import javax.imageio.ImageIO;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.regex.Pattern;
+
+/**
+ * 카테고리별 재료 아이콘 스프라이트 시트
+ * 재료 선택 화면이 재료마다 이미지를 따로 요청하지 않도록 카테고리의 아이콘을 격자로 한 장에 모으고
+ * 재료 ID → 좌표 맵과 함께 제공한다. 시트는 기본 이미지 디렉토리에 내용 해시 파일명으로 저장되어
+ * /images로 영구 캐시와 함께 제공된다.
+ * 시작 시와 재료가 바뀔 때 백그라운드에서 만들며, 재료 구성/이미지가 바뀐 카테고리만 다시 만든다.
+ * 교체된 시트는 이전 URL을 받은 응답이 아직 쓰일 수 있으므로 유예 시간이 지난 뒤에 지운다.
+ */
+@Slf4j
+@Service
+public class IngredientSpriteAtlas {
+
+    // 시트 파일명: sprite_cat{카테고리 ID}.{해시}.png
+    private static final Pattern SHEET_FILENAME = Pattern.compile("sprite_cat\\d+\\.[0-9a-f]{10}\\.png");
+
+    // 아이콘 원본으로 쓸 빌드 최적화본 너비 (원본 PNG보다 디코딩이 훨씬 빠름)
+    private static final int SOURCE_WIDTH = 128;
+
+    private final IngredientCatalog ingredientCatalog;
+    private final ImageService imageService;
+    private final BundledImages bundledImages;
+    private final int iconSize;
+    private final Duration staleGrace;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "ingredient-sprite");
+        t.setDaemon(true);
+        return t;
+    });
+
+    // 이미 예약된 재생성이 있으면 합침
+    private final AtomicBoolean pending = new AtomicBoolean();
+
+    private final Map<Integer, Sheet> sheets = new ConcurrentHashMap<>();
+
+    // 교체된(현재 시트가 아닌) 시트 파일 → 처음 교체된 것으로 확인한 시각 (시트 스레드에서만 접근)
+    private final Map<Path, Long> staleSince = new HashMap<>();
+
+    @Value("${file.base-url}")
+    private String baseUrl;
+
+    public IngredientSpriteAtlas(IngredientCatalog ingredientCatalog,
+                                 ImageService imageService,
+                                 BundledImages bundledImages,
+                                 @Value("${image.sprite.icon-size:64}") int iconSize,
+                                 @Value("${image.sprite.stale-grace-minutes:60}") long staleGraceMinutes) {
+        this.ingredientCatalog = ingredientCatalog;
+        this.imageService = imageService;
+        this.bundledImages = bundledImages;
+        this.iconSize = iconSize;
+        this.staleGrace = Duration.ofMinutes(staleGraceMinutes);
+    }
+
+    @PostConstruct
+    public void init() {
+        refresh();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 백그라운드에서 시트 재생성 예약 (재료 등록/수정/삭제 후 호출)
+     */
+    public void refresh() {
+        if (pending.compareAndSet(false, true)) {
+            executor.execute(() -> {
+                pending.set(false);
+                rebuild();
+            });
+        }
+    }
+
+    /**
+     * 유예 시간이 지난 이전 시트 정리 (기본 10분마다, 재생성과 같은 스레드에서)
+     */
+    @Scheduled(fixedDelayString = "${image.sprite.cleanup-ms:600000}",
+            initialDelayString = "${image.sprite.cleanup-ms:600000}")
+    public void cleanup() {
+        if (!executor.isShutdown()) {
+            executor.execute(this::deleteStaleSheets);
+        }
+    }
+
+    /**
+     * 카테고리 시트 (아직 만들어지지 않았으면 null)
+     */
+    public IngredientSpriteResponse getSheet(Integer ingCatId) {
+        Sheet sheet = ingCatId == null ? null : sheets.get(ingCatId);
+        return sheet == null ? null : sheet.response;
+    }
+
+    /**
+     * 스프라이트 시트 파일명인지 (영구 캐시 대상)
+     */
+    public static boolean isSheetName(String filename) {
+        return SHEET_FILENAME.matcher(filename).matches();
+    }
+
+    private void rebuild() {
+        Set<Integer> live = new HashSet<>();
+        int built = 0;
+        for (IngredientCategory category : ingredientCatalog.getAllCategories()) {
+            Integer catId = category.getIngCatId();
+            live.add(catId);
+            List<Ingredient> ingredients = ingredientCatalog.getIngredientsByCategory(catId);
+            String signature = signature(ingredients);
+            Sheet current = sheets.get(catId);
+            if (current != null && current.signature.equals(signature)) {
+                continue;
+            }
+            try {
+                sheets.put(catId, build(catId, ingredients, signature));
+                built++;
+            } catch (IOException e) {
+                log.warn("재료 스프라이트 생성 실패: 카테고리 {} ({})", catId, e.getMessage());
+            }
+        }
+        sheets.keySet().retainAll(live);
+
+        deleteStaleSheets();
+        if (built > 0) {
+            log.info("재료 스프라이트 갱신: {}개 카테고리", built);
+        }
+    }
+
+    // 교체되었거나 이전 실행에서 남은 시트 파일은 처음 확인한 뒤 유예 시간이 지나면 삭제
+    // (교체 직전에 캐시되었거나 처리 중이던 응답의 sheetUrl이 바로 404가 되지 않도록)
+    private void deleteStaleSheets() {
+        Set<Path> current = new HashSet<>();
+        sheets.values().forEach(sheet -> current.add(sheet.file));
+        long now = System.currentTimeMillis();
+        Set<Path> seen = new HashSet<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(bundledImages.directory(), "sprite_cat*.png")) {
+            for (Path file : stream) {
+                if (current.contains(file)) {
+                    continue;
+                }
+                seen.add(file);
+                long since = staleSince.computeIfAbsent(file, k -> now);
+                if (now - since >= staleGrace.toMillis()) {
+                    Files.deleteIfExists(file);
+                    staleSince.remove(file);
+                }
+            }
+        } catch (IOException e) {
+            log.warn("이전 재료 스프라이트 정리 실패: {}", e.getMessage());
+        }
+        // 다시 현재 시트가 되었거나 이미 없어진 파일은 잊음
+        staleSince.keySet().retainAll(seen);
+    }
+
+    private Sheet build(Integer catId, List<Ingredient> ingredients, String signature) throws IOException {
+        int columns = Math.max(1, (int) Math.ceil(Math.sqrt(ingredients.size())));
+        int rows = Math.max(1, (ingredients.size() + columns - 1) / columns);
+        BufferedImage atlas = new BufferedImage(columns * iconSize, rows * iconSize, BufferedImage.TYPE_INT_ARGB);
+
+        Map<Integer, IngredientSpriteResponse.Sprite> sprites = new LinkedHashMap<>();
+        Graphics2D g = atlas.createGraphics();
+        try {
+            int cell = 0;
+            for (Ingredient ingredient : ingredients) {
+                BufferedImage icon = loadIcon(ingredient.getIngImgUrl());
+                if (icon == null) {
+                    continue;
+                }
+                // 칸 안에 비율을 유지해 가운데 배치
+                int x = (cell % columns) * iconSize + (iconSize - icon.getWidth()) / 2;
+                int y = (cell / columns) * iconSize + (iconSize - icon.getHeight()) / 2;
+                g.drawImage(icon, x, y, null);
+                sprites.put(ingredient.getIngId(),
+                        new IngredientSpriteResponse.Sprite(x, y, icon.getWidth(), icon.getHeight()));
+                cell++;
+            }
+        } finally {
+            g.dispose();
+        }
+
+        Path dir = bundledImages.directory();
+        Path tmp = Files.createTempFile(dir, "sprite-", ".tmp");
+        try {
+            ImageScaler.write(atlas, "png", null, tmp);
+            String filename = "sprite_cat" + catId + "." + hash(tmp) + ".png";
+            Path file = dir.resolve(filename);
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING);
+
+            IngredientSpriteResponse response = IngredientSpriteResponse.builder()
+                    .ingCatId(catId)
+                    .sheetUrl(baseUrl + "/images/" + filename)
+                    .width(atlas.getWidth())
+                    .height(atlas.getHeight())
+                    .iconSize(iconSize)
+                    .sprites(sprites)
+                    .build();
+            return new Sheet(signature, file, response);
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    // 아이콘 크기에 맞게 축소한 이미지 (없거나 읽지 못하면 null)
+    private BufferedImage loadIcon(String imgUrl) {
+        if (imgUrl == null || imgUrl.isBlank()) {
+            return null;
+        }
+        String filename = imgUrl.substring(imgUrl.lastIndexOf('/') + 1);
+        Path path = null;
+        Map<Integer, String> optimized = bundledImages.manifest().get(filename);
+        if (optimized != null && optimized.containsKey(SOURCE_WIDTH)) {
+            path = bundledImages.resolve(optimized.get(SOURCE_WIDTH));
+        }
+        if (path == null) {
+            path = imageService.resolveImage(filename);
+        }
+        if (path == null) {
+            return null;
+        }
+        try {
+            BufferedImage source = ImageIO.read(path.toFile());
+            if (source == null) {
+                return null;
+            }
+            int longest = Math.max(source.getWidth(), source.getHeight());
+            if (longest <= iconSize) {
+                return source;
+            }
+            int width = Math.max(1, source.getWidth() * iconSize / longest);
+            return ImageScaler.scale(source, width, true);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private String signature(List<Ingredient> ingredients) {
+        StringBuilder sb = new StringBuilder().append(iconSize);
+        for (Ingredient ingredient : ingredients) {
+            sb.append('|').append(ingredient.getIngId()).append('=').append(ingredient.getIngImgUrl());
+        }
+        return sb.toString();
+    }
+
+    private String hash(Path file) throws IOException {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(Files.readAllBytes(file));
+            return HexFormat.of().formatHex(digest).substring(0, 10);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static final class Sheet {
+        final String signature;
+        final Path file;
+        final IngredientSpriteResponse response;
+
+        Sheet(String signature, Path file, IngredientSpriteResponse response) {
+            this.signature = signature;
+            this.file = file;
+            this.response = response;
+        }
+    }
+}
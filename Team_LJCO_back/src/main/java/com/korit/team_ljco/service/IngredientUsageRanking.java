@@ -0,0 +1,58 @@
+package com.korit.team_ljco.service;
+
+import com.korit.team_ljco.entity.Ingredient;
+import com.korit.team_ljco.mapper.IngredientMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 재료 사용 빈도 순위 (레시피에 쓰인 횟수 내림차순, 동률이면 ing_id 오름차순)
+ * 집계 쿼리는 시작 시, 레시피 재료/재료가 바뀔 때, 그리고 주기적으로만 돌리고
+ * 인기 재료 조회는 미리 정렬된 목록을 자르기만 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IngredientUsageRanking {
+
+    private final IngredientMapper ingredientMapper;
+    private final CatalogVersion catalogVersion;
+
+    private volatile List<Ingredient> ranked = List.of();
+
+    @PostConstruct
+    public void init() {
+        refresh();
+    }
+
+    /**
+     * 사용 빈도 다시 집계 후 교체 (기본 1시간마다)
+     */
+    @Scheduled(fixedDelayString = "${ingredient.usage-refresh-ms:3600000}",
+            initialDelayString = "${ingredient.usage-refresh-ms:3600000}")
+    public synchronized void refresh() {
+        this.ranked = List.copyOf(ingredientMapper.selectTopIngredientsByUsage(Integer.MAX_VALUE));
+        catalogVersion.bumpIngredients();
+        log.info("재료 사용 빈도 순위 갱신: 재료 {}개", ranked.size());
+    }
+
+    /**
+     * 상위 limit개
+     */
+    public List<Ingredient> top(int limit) {
+        List<Ingredient> r = this.ranked;
+        return r.subList(0, Math.max(0, Math.min(limit, r.size())));
+    }
+
+    /**
+     * 전체 순위 (갱신될 때마다 새 목록으로 바뀌므로 같은 객체인지로 변경 여부를 알 수 있음)
+     */
+    public List<Ingredient> all() {
+        return ranked;
+    }
+}
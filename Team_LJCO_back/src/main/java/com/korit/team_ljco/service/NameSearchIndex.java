@@ -0,0 +1,64 @@
+package com.korit.team_ljco.service;
+
+import com.korit.team_ljco.entity.Ingredient;
+import com.korit.team_ljco.entity.Recipe;
+import com.korit.team_ljco.mapper.IngredientMapper;
+import com.korit.team_ljco.mapper.RecipeMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 레시피명/재료명 검색 색인
+ * 시작 시 전체를 적재하고, 레시피/재료 수정·삭제 시 해당 항목만 갱신한다.
+ * 검색 결과는 순위가 매겨진 ID 목록이며 실제 데이터는 매퍼에서 ID로 조회한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NameSearchIndex {
+
+    private final RecipeMapper recipeMapper;
+    private final IngredientMapper ingredientMapper;
+
+    private final NgramIndex<Long> recipes = new NgramIndex<>();
+    private final NgramIndex<Integer> ingredients = new NgramIndex<>();
+
+    @PostConstruct
+    public void init() {
+        for (Recipe recipe : recipeMapper.selectAllRecipes()) {
+            recipes.put(recipe.getRcpId(), recipe.getRcpName());
+        }
+        for (Ingredient ingredient : ingredientMapper.selectAllIngredients()) {
+            ingredients.put(ingredient.getIngId(), ingredient.getIngName());
+        }
+        log.info("이름 검색 색인 적재 완료: 레시피 {}개, 재료 {}개", recipes.size(), ingredients.size());
+    }
+
+    public List<Long> searchRecipes(String keyword) {
+        return recipes.search(keyword);
+    }
+
+    public void putRecipe(Long rcpId, String rcpName) {
+        recipes.put(rcpId, rcpName);
+    }
+
+    public void removeRecipe(Long rcpId) {
+        recipes.remove(rcpId);
+    }
+
+    public List<Integer> searchIngredients(String keyword) {
+        return ingredients.search(keyword);
+    }
+
+    public void putIngredient(Integer ingId, String ingName) {
+        ingredients.put(ingId, ingName);
+    }
+
+    public void removeIngredient(Integer ingId) {
+        ingredients.remove(ingId);
+    }
+}
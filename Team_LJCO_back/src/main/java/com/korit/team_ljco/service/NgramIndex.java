@@ -0,0 +1,130 @@
+package com.korit.team_ljco.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 이름 부분 검색용 n-gram 역색인 (1-gram + 2-gram)
+ * LIKE '%키워드%'와 같은 결과를, 가장 짧은 색인 목록만 훑고 contains로 확인해서 찾는다.
+ * 쓰기는 직렬화하고 읽기는 잠금 없이 수행한다.
+ */
+public class NgramIndex<K extends Comparable<K>> {
+
+    private final Map<K, String> names = new ConcurrentHashMap<>();
+    private final Map<String, Set<K>> postings = new ConcurrentHashMap<>();
+
+    public synchronized void put(K id, String name) {
+        remove(id);
+        String normalized = normalize(name);
+        names.put(id, normalized);
+        for (String gram : grams(normalized)) {
+            postings.computeIfAbsent(gram, g -> ConcurrentHashMap.newKeySet()).add(id);
+        }
+    }
+
+    public synchronized void remove(K id) {
+        String old = names.remove(id);
+        if (old == null) {
+            return;
+        }
+        for (String gram : grams(old)) {
+            Set<K> ids = postings.get(gram);
+            if (ids != null) {
+                ids.remove(id);
+                if (ids.isEmpty()) {
+                    postings.remove(gram);
+                }
+            }
+        }
+    }
+
+    /**
+     * 키워드를 포함하는 ID 목록
+     * 정렬: 앞쪽에서 일치할수록 → 이름이 짧을수록 → 이름순 → ID순
+     */
+    public List<K> search(String keyword) {
+        String q = normalize(keyword);
+
+        Collection<K> candidates = names.keySet();
+        if (!q.isEmpty()) {
+            for (String gram : queryGrams(q)) {
+                Set<K> ids = postings.get(gram);
+                if (ids == null) {
+                    return new ArrayList<>();
+                }
+                if (ids.size() < candidates.size()) {
+                    candidates = ids;
+                }
+            }
+        }
+
+        List<Hit<K>> hits = new ArrayList<>();
+        for (K id : candidates) {
+            String name = names.get(id);
+            int pos = name == null ? -1 : name.indexOf(q);
+            if (pos >= 0) {
+                hits.add(new Hit<>(id, name, pos));
+            }
+        }
+        hits.sort(Comparator.<Hit<K>>comparingInt(h -> h.pos)
+                .thenComparingInt(h -> h.name.length())
+                .thenComparing(h -> h.name)
+                .thenComparing(h -> h.id));
+
+        List<K> result = new ArrayList<>(hits.size());
+        for (Hit<K> hit : hits) {
+            result.add(hit.id);
+        }
+        return result;
+    }
+
+    public int size() {
+        return names.size();
+    }
+
+    private static String normalize(String s) {
+        return s == null ? "" : s.trim().toLowerCase(Locale.ROOT);
+    }
+
+    // 색인: 모든 1-gram과 2-gram
+    private static List<String> grams(String s) {
+        List<String> grams = new ArrayList<>(s.length() * 2);
+        for (int i = 0; i < s.length(); i++) {
+            grams.add(s.substring(i, i + 1));
+            if (i + 1 < s.length()) {
+                grams.add(s.substring(i, i + 2));
+            }
+        }
+        return grams;
+    }
+
+    // 질의: 한 글자면 1-gram, 그 이상이면 2-gram들
+    private static List<String> queryGrams(String q) {
+        if (q.length() == 1) {
+            return List.of(q);
+        }
+        List<String> grams = new ArrayList<>(q.length() - 1);
+        for (int i = 0; i + 1 < q.length(); i++) {
+            grams.add(q.substring(i, i + 2));
+        }
+        return grams;
+    }
+
+    private static final class Hit<K> {
+        final K id;
+        final String name;
+        final int pos;
+
+        Hit(K id, String name, int pos) {
+            this.id = id;
+            this.name = name;
+            this.pos = pos;
+        }
+    }
+}
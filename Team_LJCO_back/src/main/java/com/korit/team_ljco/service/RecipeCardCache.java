@@ -0,0 +1,180 @@
+package com.korit.team_ljco.service;
+
+import com.korit.team_ljco.dto.RecipeListResponse;
+import com.korit.team_ljco.entity.RecipeIngredientMatch;
+import com.korit.team_ljco.mapper.RecipeMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 레시피 목록 2단 캐시
+ * 1단: 사용자와 무관한 레시피 카드 (rcpId → 카드)
+ * 2단: (정렬, 키워드, 페이지/커서)별 페이지 레시피 ID 목록
+ * 둘 다 크기 상한(LRU)과 TTL이 있고, 꺼낼 때는 매칭 정보가 비어 있는 복사본을 돌려주므로
+ * 사용자별 매칭률/색상은 호출하는 쪽에서 보유 재료로 덧입힌다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RecipeCardCache {
+
+    private final RecipeMapper recipeMapper;
+
+    @Value("${recipe.cache.ttl-seconds:30}")
+    private long ttlSeconds;
+
+    @Value("${recipe.cache.max-pages:1000}")
+    private int maxPages;
+
+    @Value("${recipe.cache.max-cards:5000}")
+    private int maxCards;
+
+    private final Map<Long, Entry<RecipeListResponse>> cards = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, Entry<RecipeListResponse>> eldest) {
+            return size() > maxCards;
+        }
+    };
+
+    private final Map<String, Entry<List<Long>>> pages = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Entry<List<Long>>> eldest) {
+            return size() > maxPages;
+        }
+    };
+
+    /**
+     * 페이지 캐시 키
+     */
+    public static String pageKey(String sort, String keyword, String page) {
+        return sort + "|" + (keyword == null ? "" : keyword) + "|" + page;
+    }
+
+    /**
+     * 캐시된 페이지의 레시피 ID 목록 (없거나 만료되면 null)
+     */
+    public List<Long> getPage(String key) {
+        synchronized (pages) {
+            Entry<List<Long>> entry = pages.get(key);
+            if (entry == null || entry.isExpired()) {
+                pages.remove(key);
+                return null;
+            }
+            return entry.value;
+        }
+    }
+
+    /**
+     * DB에서 조회한 페이지를 카드와 ID 목록으로 나눠 저장하고 ID 목록 반환
+     */
+    public List<Long> putPage(String key, List<RecipeListResponse> rows) {
+        List<Long> rcpIds = new ArrayList<>(rows.size());
+        long expiresAt = expiresAt();
+        synchronized (cards) {
+            for (RecipeListResponse row : rows) {
+                cards.put(row.getRcpId(), new Entry<>(copyOf(row), expiresAt));
+                rcpIds.add(row.getRcpId());
+            }
+        }
+        synchronized (pages) {
+            pages.put(key, new Entry<>(rcpIds, expiresAt));
+        }
+        return rcpIds;
+    }
+
+    /**
+     * ID 순서대로 카드 복사본 조회 (캐시에 없는 카드만 한 번에 DB 조회)
+     */
+    public List<RecipeListResponse> getCards(List<Long> rcpIds) {
+        Map<Long, RecipeListResponse> found = new LinkedHashMap<>();
+        List<Long> missing = new ArrayList<>();
+        synchronized (cards) {
+            for (Long rcpId : rcpIds) {
+                Entry<RecipeListResponse> entry = cards.get(rcpId);
+                if (entry == null || entry.isExpired()) {
+                    missing.add(rcpId);
+                } else {
+                    found.put(rcpId, entry.value);
+                }
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            long expiresAt = expiresAt();
+            List<RecipeListResponse> loaded = recipeMapper.getRecipesByIds(missing);
+            synchronized (cards) {
+                for (RecipeListResponse row : loaded) {
+                    RecipeListResponse card = copyOf(row);
+                    cards.put(row.getRcpId(), new Entry<>(card, expiresAt));
+                    found.put(row.getRcpId(), card);
+                }
+            }
+        }
+
+        List<RecipeListResponse> result = new ArrayList<>(rcpIds.size());
+        for (Long rcpId : rcpIds) {
+            RecipeListResponse card = found.get(rcpId);
+            if (card != null) {
+                result.add(copyOf(card));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 레시피 추가/수정/삭제, 조회수 반영 시 호출
+     */
+    public void invalidate() {
+        synchronized (pages) {
+            pages.clear();
+        }
+        synchronized (cards) {
+            cards.clear();
+        }
+    }
+
+    private long expiresAt() {
+        return System.currentTimeMillis() + ttlSeconds * 1000;
+    }
+
+    // 사용자별 매칭 정보는 비운 채로 복사
+    private static RecipeListResponse copyOf(RecipeListResponse r) {
+        List<RecipeIngredientMatch> ingredients = new ArrayList<>();
+        if (r.getIngredients() != null) {
+            for (RecipeIngredientMatch m : r.getIngredients()) {
+                ingredients.add(RecipeIngredientMatch.builder()
+                        .ingId(m.getIngId())
+                        .ingName(m.getIngName())
+                        .build());
+            }
+        }
+        return RecipeListResponse.builder()
+                .rcpId(r.getRcpId())
+                .rcpName(r.getRcpName())
+                .rcpImgUrl(r.getRcpImgUrl())
+                .rcpViewCount(r.getRcpViewCount())
+                .level(r.getLevel())
+                .totalCount(r.getTotalCount())
+                .ingredients(ingredients)
+                .build();
+    }
+
+    private static final class Entry<V> {
+        final V value;
+        final long expiresAt;
+
+        Entry(V value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+
+        boolean isExpired() {
+            return System.currentTimeMillis() > expiresAt;
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.korit.team_ljco.service;
+
+import com.korit.team_ljco.mapper.RecipeMapper;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 레시피 목록 전체 개수 캐시
+ * 키워드별(정렬과 무관) 개수를 캐싱하고 레시피 변경 시 비운다.
+ * 상한(exact-limit) 이상이면 끝까지 세지 않고 근사값으로 표시한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RecipeCountService {
+
+    // 캐시할 키워드 개수 상한 (넘으면 전부 비움)
+    private static final int MAX_CACHED_KEYWORDS = 1000;
+
+    private final RecipeMapper recipeMapper;
+    private final NameSearchIndex nameSearchIndex;
+
+    @Value("${recipe.count.exact-limit:10000}")
+    private int exactLimit;
+
+    private final Map<String, Count> counts = new ConcurrentHashMap<>();
+
+    /**
+     * 키워드에 해당하는 레시피 개수 (없으면 전체)
+     */
+    public Count count(String keyword) {
+        String key = keyword == null ? "" : keyword;
+        Count cached = counts.get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        if (counts.size() >= MAX_CACHED_KEYWORDS) {
+            counts.clear();
+        }
+        Count count;
+        if (key.isEmpty()) {
+            int total = recipeMapper.countRecipes(exactLimit);
+            count = new Count(total, total >= exactLimit);
+        } else {
+            // 키워드 개수는 검색 색인에서 정확히 구함
+            count = new Count(nameSearchIndex.searchRecipes(key).size(), false);
+        }
+        counts.put(key, count);
+        return count;
+    }
+
+    /**
+     * 레시피 추가/삭제/이름 변경 시 호출
+     */
+    public void invalidate() {
+        counts.clear();
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class Count {
+        private final int total;
+        private final boolean approximate;
+    }
+}
@@ -0,0 +1,78 @@
+package com.korit.team_ljco.service;
+
+import com.korit.team_ljco.dto.RecipeResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 레시피 상세(재료 + 단계) LRU 캐시
+ * 레시피 수정/삭제 시 해당 레시피만 비운다.
+ * 조회수는 따로 반영되므로 TTL이 지나면 다시 읽는다.
+ */
+@Component
+public class RecipeDetailCache {
+
+    @Value("${recipe.detail-cache.max-size:500}")
+    private int maxSize;
+
+    @Value("${recipe.detail-cache.ttl-seconds:30}")
+    private long ttlSeconds;
+
+    private final Map<Long, Entry> details = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+            return size() > maxSize;
+        }
+    };
+
+    /**
+     * 캐시에 없거나 만료되었으면 loader로 조회해서 저장 (loader가 null을 주면 저장하지 않음)
+     */
+    public RecipeResponse get(Long rcpId, Function<Long, RecipeResponse> loader) {
+        synchronized (details) {
+            Entry cached = details.get(rcpId);
+            if (cached != null) {
+                if (cached.expiresAt > System.currentTimeMillis()) {
+                    return cached.detail;
+                }
+                details.remove(rcpId);
+            }
+        }
+        RecipeResponse loaded = loader.apply(rcpId);
+        if (loaded != null) {
+            synchronized (details) {
+                details.put(rcpId, new Entry(loaded, System.currentTimeMillis() + ttlSeconds * 1000));
+            }
+        }
+        return loaded;
+    }
+
+    public void invalidate(Long rcpId) {
+        synchronized (details) {
+            details.remove(rcpId);
+        }
+    }
+
+    /**
+     * 전체 비우기 (재료 이름/이미지가 바뀌어 여러 레시피에 영향이 있을 때)
+     */
+    public void invalidateAll() {
+        synchronized (details) {
+            details.clear();
+        }
+    }
+
+    private static final class Entry {
+        final RecipeResponse detail;
+        final long expiresAt;
+
+        Entry(RecipeResponse detail, long expiresAt) {
+            this.detail = detail;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,331 @@
+package com.korit.team_ljco.service;
+
+import com.korit.team_ljco.dto.RecipeListResponse;
+import com.korit.team_ljco.entity.FreshnessTier;
+import com.korit.team_ljco.entity.Recipe;
+import com.korit.team_ljco.entity.RecipeIngredient;
+import com.korit.team_ljco.entity.RecipeIngredientMatch;
+import com.korit.team_ljco.entity.UserIngredient;
+import com.korit.team_ljco.mapper.RecipeMapper;
+import com.korit.team_ljco.mapper.UserIngredientMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.IntConsumer;
+import java.util.function.Predicate;
+
+/**
+ * 레시피 매칭 엔진
+ * 레시피별 재료 구성을 ing_id 기준 비트셋으로 메모리에 들고 있다가
+ * 사용자 보유 재료 비트셋과 AND + popcount로 매칭률을 계산한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RecipeMatchEngine {
+
+    // 정렬 키의 하위 48비트 = rcp_id
+    private static final long RCP_ID_MASK = (1L << 48) - 1;
+
+    private final RecipeMapper recipeMapper;
+    private final UserIngredientMapper userIngredientMapper;
+    private final IngredientFreshnessService ingredientFreshnessService;
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    @PostConstruct
+    public void init() {
+        reload();
+    }
+
+    /**
+     * 레시피/레시피 재료 전체를 다시 읽어 스냅샷 교체
+     */
+    public synchronized void reload() {
+        List<Recipe> recipes = recipeMapper.selectAllRecipes();
+        List<RecipeIngredient> pairs = recipeMapper.selectAllRecipeIngredientIds();
+
+        int maxIngId = 0;
+        for (RecipeIngredient pair : pairs) {
+            maxIngId = Math.max(maxIngId, pair.getIngId());
+        }
+        int wordCount = (maxIngId >> 6) + 1;
+
+        Map<Long, Integer> indexById = new HashMap<>(recipes.size() * 2);
+        long[] rcpIds = new long[recipes.size()];
+        long[][] ingBits = new long[recipes.size()][wordCount];
+
+        for (int i = 0; i < recipes.size(); i++) {
+            Recipe recipe = recipes.get(i);
+            rcpIds[i] = recipe.getRcpId();
+            indexById.put(recipe.getRcpId(), i);
+        }
+
+        for (RecipeIngredient pair : pairs) {
+            Integer idx = indexById.get(pair.getRcpId());
+            if (idx != null) {
+                int ingId = pair.getIngId();
+                ingBits[idx][ingId >> 6] |= 1L << ingId;
+            }
+        }
+
+        int[] ingCounts = new int[recipes.size()];
+        for (int i = 0; i < ingBits.length; i++) {
+            ingCounts[i] = popCount(ingBits[i]);
+        }
+
+        // 재료 → 레시피 역색인 (ing_id별 레시피 인덱스 목록)
+        int[] postingSizes = new int[maxIngId + 1];
+        for (long[] bits : ingBits) {
+            forEachBit(bits, ingId -> postingSizes[ingId]++);
+        }
+        int[][] recipesByIng = new int[maxIngId + 1][];
+        for (int ingId = 0; ingId <= maxIngId; ingId++) {
+            recipesByIng[ingId] = new int[postingSizes[ingId]];
+        }
+        int[] filled = new int[maxIngId + 1];
+        for (int i = 0; i < ingBits.length; i++) {
+            int idx = i;
+            forEachBit(ingBits[i], ingId -> recipesByIng[ingId][filled[ingId]++] = idx);
+        }
+
+        this.snapshot = new Snapshot(rcpIds, ingBits, ingCounts, recipesByIng, indexById);
+        log.info("레시피 매칭 엔진 적재 완료: 레시피 {}개, 재료 매핑 {}개", recipes.size(), pairs.size());
+    }
+
+    /**
+     * 사용자 보유 재료를 비트셋으로 적재 (userId가 없거나 0이면 빈 팬트리)
+     */
+    public Pantry loadPantry(Long userId) {
+        if (userId == null || userId <= 0) {
+            return Pantry.EMPTY;
+        }
+        // R(오래된 재료) 여부는 날짜 계산 없이 미리 계산된 신선도 단계로 판단
+        return Pantry.of(userIngredientMapper.selectUserIngredients(userId),
+                ui -> ingredientFreshnessService.tierOf(ui) != FreshnessTier.FRESH);
+    }
+
+    /**
+     * 매칭률 내림차순(동률이면 rcp_id 내림차순)으로 순위를 매겨 요청한 페이지의 레시피 ID만 반환
+     * keywordIds는 이름 검색 색인 결과 (null이면 전체)
+     */
+    public List<Long> rankByMatchRate(Pantry pantry, Set<Long> keywordIds, int offset, int limit) {
+        long[] keys = sortedKeys(pantry, keywordIds);
+
+        List<Long> pageIds = new ArrayList<>(limit);
+        for (int rank = offset; rank < keys.length && pageIds.size() < limit; rank++) {
+            pageIds.add(rcpIdOf(keys[keys.length - 1 - rank]));
+        }
+        return pageIds;
+    }
+
+    /**
+     * 커서 방식: (matchRate, rcpId) 다음 순위부터 limit개의 레시피 ID 반환
+     */
+    public List<Long> rankByMatchRateAfter(Pantry pantry, Set<Long> keywordIds, long afterRate, long afterRcpId, int limit) {
+        long[] keys = sortedKeys(pantry, keywordIds);
+
+        // 오름차순 배열에서 커서 키보다 작은 가장 큰 위치부터 내려가며 수집
+        int pos = Arrays.binarySearch(keys, sortKey((int) afterRate, afterRcpId));
+        int start = pos >= 0 ? pos - 1 : -pos - 2;
+
+        List<Long> pageIds = new ArrayList<>(limit);
+        for (int i = start; i >= 0 && pageIds.size() < limit; i--) {
+            pageIds.add(rcpIdOf(keys[i]));
+        }
+        return pageIds;
+    }
+
+    // 상위 비트에 매칭률, 하위 비트에 rcp_id를 담은 정렬 키 (오름차순)
+    private long[] sortedKeys(Pantry pantry, Set<Long> keywordIds) {
+        Snapshot s = this.snapshot;
+
+        long[] keys = new long[s.rcpIds.length];
+        int size = 0;
+        for (int i = 0; i < s.rcpIds.length; i++) {
+            if (keywordIds != null && !keywordIds.contains(s.rcpIds[i])) {
+                continue;
+            }
+            keys[size++] = sortKey(matchRate(s, i, pantry), s.rcpIds[i]);
+        }
+        keys = Arrays.copyOf(keys, size);
+        Arrays.sort(keys);
+        return keys;
+    }
+
+    /**
+     * 조회된 레시피 카드에 사용자 기준 매칭률과 재료별 N/G/R 색상을 채운다
+     */
+    public void applyMatches(List<RecipeListResponse> recipes, Pantry pantry) {
+        Snapshot s = this.snapshot;
+
+        for (RecipeListResponse r : recipes) {
+            List<RecipeIngredientMatch> ingredients = r.getIngredients();
+            int owned = 0;
+
+            for (RecipeIngredientMatch m : ingredients) {
+                int ingId = m.getIngId();
+                if (!pantry.owns(ingId)) {
+                    m.setMatchedColor("N");
+                } else {
+                    m.setMatchedIngId(ingId);
+                    m.setMatchedColor("G");
+                    owned++;
+                    if (pantry.isAging(ingId)) {
+                        m.setRedMatchedIng(ingId);
+                        m.setMatchedColor("R");
+                    }
+                }
+            }
+
+            Integer idx = s.indexById.get(r.getRcpId());
+            if (idx != null) {
+                r.setMatchRate(matchRate(s, idx, pantry));
+            } else {
+                // 스냅샷 이후 추가된 레시피는 조회된 재료 목록으로 계산
+                r.setMatchRate(rate(owned, ingredients.size()));
+            }
+        }
+    }
+
+    Snapshot snapshot() {
+        return snapshot;
+    }
+
+    static int rate(int owned, int total) {
+        return total == 0 ? 0 : owned * 100 / total;
+    }
+
+    // 정렬 키 → rcp_id
+    static long rcpIdOf(long key) {
+        return key & RCP_ID_MASK;
+    }
+
+    static long sortKey(int rate, long rcpId) {
+        return ((long) rate << 48) | rcpId;
+    }
+
+    private static int matchRate(Snapshot s, int idx, Pantry pantry) {
+        int total = s.ingCounts[idx];
+        if (total == 0 || pantry.isEmpty()) {
+            return 0;
+        }
+        long[] recipeBits = s.ingBits[idx];
+        long[] ownedBits = pantry.owned;
+        int words = Math.min(recipeBits.length, ownedBits.length);
+        int owned = 0;
+        for (int w = 0; w < words; w++) {
+            owned += Long.bitCount(recipeBits[w] & ownedBits[w]);
+        }
+        return rate(owned, total);
+    }
+
+    private static void forEachBit(long[] bits, IntConsumer action) {
+        for (int w = 0; w < bits.length; w++) {
+            long word = bits[w];
+            while (word != 0) {
+                action.accept((w << 6) + Long.numberOfTrailingZeros(word));
+                word &= word - 1;
+            }
+        }
+    }
+
+    private static int popCount(long[] bits) {
+        int count = 0;
+        for (long word : bits) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    /**
+     * 레시피/재료 구성 스냅샷 (불변, reload 시 통째로 교체)
+     */
+    static final class Snapshot {
+        static final Snapshot EMPTY = new Snapshot(new long[0], new long[0][], new int[0],
+                new int[0][], Map.of());
+
+        final long[] rcpIds;
+        final long[][] ingBits;
+        final int[] ingCounts;
+        final int[][] recipesByIng;
+        final Map<Long, Integer> indexById;
+
+        Snapshot(long[] rcpIds, long[][] ingBits, int[] ingCounts,
+                 int[][] recipesByIng, Map<Long, Integer> indexById) {
+            this.rcpIds = rcpIds;
+            this.ingBits = ingBits;
+            this.ingCounts = ingCounts;
+            this.recipesByIng = recipesByIng;
+            this.indexById = indexById;
+        }
+
+        // 해당 재료가 들어가는 레시피 인덱스 목록
+        int[] recipesContaining(int ingId) {
+            return ingId >= 0 && ingId < recipesByIng.length ? recipesByIng[ingId] : NO_RECIPES;
+        }
+
+        private static final int[] NO_RECIPES = new int[0];
+    }
+
+    /**
+     * 사용자 보유 재료 비트셋 (보유 / 오래된 재료)
+     */
+    public static final class Pantry {
+        public static final Pantry EMPTY = new Pantry(new long[0], new long[0]);
+
+        private final long[] owned;
+        private final long[] aging;
+
+        private Pantry(long[] owned, long[] aging) {
+            this.owned = owned;
+            this.aging = aging;
+        }
+
+        public static Pantry of(List<UserIngredient> userIngredients, Predicate<UserIngredient> isAging) {
+            if (userIngredients == null || userIngredients.isEmpty()) {
+                return EMPTY;
+            }
+            int maxIngId = 0;
+            for (UserIngredient ui : userIngredients) {
+                maxIngId = Math.max(maxIngId, ui.getIngId());
+            }
+            long[] owned = new long[(maxIngId >> 6) + 1];
+            long[] aging = new long[owned.length];
+
+            for (UserIngredient ui : userIngredients) {
+                int ingId = ui.getIngId();
+                owned[ingId >> 6] |= 1L << ingId;
+                if (isAging.test(ui)) {
+                    aging[ingId >> 6] |= 1L << ingId;
+                }
+            }
+            return new Pantry(owned, aging);
+        }
+
+        public boolean isEmpty() {
+            return owned.length == 0;
+        }
+
+        public boolean owns(int ingId) {
+            return test(owned, ingId);
+        }
+
+        public boolean isAging(int ingId) {
+            return test(aging, ingId);
+        }
+
+        private static boolean test(long[] bits, int ingId) {
+            int word = ingId >> 6;
+            return word < bits.length && (bits[word] & (1L << ingId)) != 0;
+        }
+    }
+}
@@ -8,7 +8,12 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -17,6 +22,18 @@ import java.util.stream.Collectors;
 public class RecipeService {
 
     private final RecipeMapper recipeMapper;
+    private final RecipeMatchEngine recipeMatchEngine;
+    private final RecipeCountService recipeCountService;
+    private final UserMatchRateStore userMatchRateStore;
+    private final NameSearchIndex nameSearchIndex;
+    private final RecipeCardCache recipeCardCache;
+    private final DashboardStatsService dashboardStatsService;
+    private final RecipeDetailCache recipeDetailCache;
+    private final RecipeViewCounter recipeViewCounter;
+    private final TrendingRecipes trendingRecipes;
+    private final IngredientUsageRanking ingredientUsageRanking;
+    private final CatalogVersion catalogVersion;
+
     public List<RecipeResponse> getAllRecipes() {
         List<Recipe> recipes = recipeMapper.selectAllRecipes();
         return recipes.stream()
@@ -28,47 +45,172 @@ public class RecipeService {
     public RecipePageResponseDTO findRecipes(int page, Long userId, String keyword, String sort) {
         int pageSize = 9;
         int offset = (page - 1) * pageSize;
+        RecipeMatchEngine.Pantry pantry = recipeMatchEngine.loadPantry(userId);
         List<RecipeListResponse> recipesList;
 
-        if (keyword == null || keyword.isEmpty()) {
-            recipesList = recipeMapper.getRecipes(pageSize, offset, userId, sort);
+        if ("MATCHRATE_DESC".equals(sort)) {
+            // 매칭률 순위는 메모리에서 가져오고 카드는 캐시에서 (없는 카드만 DB 조회)
+            // (로그인 사용자는 보유 재료 변경 시 증분 갱신되는 순위 사용)
+            List<Long> rcpIds = isMember(userId)
+                    ? userMatchRateStore.rankByMatchRate(userId, keywordIdSet(keyword), offset, pageSize)
+                    : recipeMatchEngine.rankByMatchRate(pantry, keywordIdSet(keyword), offset, pageSize);
+            recipesList = recipeCardCache.getCards(rcpIds);
+        } else if ("TRENDING".equals(sort)) {
+            // 최근 조회 급상승 순위 (메모리 요약에서 바로)
+            recipesList = recipeCardCache.getCards(trendingRecipes.rank(keywordIdSet(keyword), offset, pageSize));
         } else {
-            recipesList = recipeMapper.getRecipesByKeyword(pageSize, offset, userId, keyword, sort);
-        }
-
-        for (RecipeListResponse r : recipesList) {
-            List<RecipeIngredientMatch> ingredients = r.getIngredients();
-            int count = 0;
-
-            for (RecipeIngredientMatch m : ingredients) {
-                if (m.getMatchedIngId() == null) {
-                    m.setMatchedColor("N");
-
-                } else if (m.getMatchedIngId() != null) {
-                    m.setMatchedColor("G");
-                    count++;
-                    if (m.getRedMatchedIng() != null) {
-                        m.setMatchedColor("R");
-                    }
+            // 사용자와 무관한 페이지는 캐시된 ID 목록과 카드로 응답
+            String pageKey = RecipeCardCache.pageKey(sort, keyword, String.valueOf(page));
+            List<Long> rcpIds = recipeCardCache.getPage(pageKey);
+            if (rcpIds == null) {
+                List<Long> keywordIds = searchRecipeIds(keyword);
+                List<RecipeListResponse> rows;
+                if (keywordIds == null) {
+                    rows = recipeMapper.getRecipes(pageSize, offset, sort);
+                } else if (keywordIds.isEmpty()) {
+                    rows = new ArrayList<>();
+                } else {
+                    rows = recipeMapper.getRecipesAmong(pageSize, offset, keywordIds, sort);
                 }
-
+                rcpIds = recipeCardCache.putPage(pageKey, rows);
             }
-
+            recipesList = recipeCardCache.getCards(rcpIds);
         }
+        RecipeCountService.Count count = "TRENDING".equals(sort)
+                ? new RecipeCountService.Count(trendingRecipes.count(keywordIdSet(keyword)), false)
+                : recipeCountService.count(keyword);
+
+        // 매칭률 + 재료별 N/G/R 색상
+        recipeMatchEngine.applyMatches(recipesList, pantry);
 
-        int totalCount = recipesList.size() == 0 ? 0 : recipesList.get(0).getTotalCount();
-        int totalPages = (int)Math.ceil(totalCount / pageSize);
+        int totalCount = count.getTotal();
+        int totalPages = (totalCount + pageSize - 1) / pageSize;
         RecipePageResponseDTO RecipeDTO = RecipePageResponseDTO.builder()
                 .recipes(recipesList)
                 .page(page)
                 .pageSize(pageSize)
                 .totalCount(totalCount)
                 .totalPages(totalPages)
+                .totalCountApproximate(count.isApproximate())
                 .build();
 
         return RecipeDTO;
     }
 
+    //커서(키셋) 방식 레시피 조회 - offset 없이 마지막 정렬 키 이후부터
+    public RecipePageResponseDTO findRecipesAfter(String cursor, Long userId, String keyword, String sort) {
+        int pageSize = 9;
+        RecipeCursor after = (cursor == null || cursor.isEmpty()) ? null : RecipeCursor.decode(cursor, sort);
+        RecipeMatchEngine.Pantry pantry = recipeMatchEngine.loadPantry(userId);
+        List<RecipeListResponse> recipesList;
+
+        // 다음 페이지 존재 여부를 알기 위해 한 개 더 조회
+        if ("MATCHRATE_DESC".equals(sort)) {
+            Set<Long> keywordIds = keywordIdSet(keyword);
+            List<Long> rcpIds;
+            if (isMember(userId)) {
+                rcpIds = after == null
+                        ? userMatchRateStore.rankByMatchRate(userId, keywordIds, 0, pageSize + 1)
+                        : userMatchRateStore.rankByMatchRateAfter(userId, keywordIds, after.getValue(), after.getRcpId(), pageSize + 1);
+            } else {
+                rcpIds = after == null
+                        ? recipeMatchEngine.rankByMatchRate(pantry, keywordIds, 0, pageSize + 1)
+                        : recipeMatchEngine.rankByMatchRateAfter(pantry, keywordIds, after.getValue(), after.getRcpId(), pageSize + 1);
+            }
+            recipesList = recipeCardCache.getCards(rcpIds);
+        } else if ("TRENDING".equals(sort)) {
+            Set<Long> keywordIds = keywordIdSet(keyword);
+            List<Long> rcpIds = after == null
+                    ? trendingRecipes.rank(keywordIds, 0, pageSize + 1)
+                    : trendingRecipes.rankAfter(keywordIds, after.getValue(), after.getRcpId(), pageSize + 1);
+            recipesList = recipeCardCache.getCards(rcpIds);
+        } else {
+            String pageKey = RecipeCardCache.pageKey(sort, keyword, after == null ? "" : cursor);
+            List<Long> rcpIds = recipeCardCache.getPage(pageKey);
+            if (rcpIds == null) {
+                List<Long> keywordIds = searchRecipeIds(keyword);
+                List<RecipeListResponse> rows;
+                if (keywordIds != null && keywordIds.isEmpty()) {
+                    rows = new ArrayList<>();
+                } else {
+                    rows = recipeMapper.getRecipesAfter(pageSize + 1, keywordIds, sort,
+                            after == null ? null : after.getValue(),
+                            after == null ? null : after.getRcpId());
+                }
+                rcpIds = recipeCardCache.putPage(pageKey, rows);
+            }
+            recipesList = recipeCardCache.getCards(rcpIds);
+        }
+
+        boolean hasNext = recipesList.size() > pageSize;
+        if (hasNext) {
+            recipesList = new ArrayList<>(recipesList.subList(0, pageSize));
+        }
+
+        recipeMatchEngine.applyMatches(recipesList, pantry);
+
+        String nextCursor = null;
+        if (hasNext) {
+            RecipeListResponse last = recipesList.get(recipesList.size() - 1);
+            nextCursor = new RecipeCursor(sort, sortValue(last, sort), last.getRcpId()).encode();
+        }
+
+        return RecipePageResponseDTO.builder()
+                .recipes(recipesList)
+                .pageSize(pageSize)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    // 키워드가 없으면 null, 있으면 검색 색인이 찾은 레시피 ID
+    private List<Long> searchRecipeIds(String keyword) {
+        if (keyword == null || keyword.isEmpty()) {
+            return null;
+        }
+        return nameSearchIndex.searchRecipes(keyword);
+    }
+
+    private Set<Long> keywordIdSet(String keyword) {
+        List<Long> keywordIds = searchRecipeIds(keyword);
+        return keywordIds == null ? null : new HashSet<>(keywordIds);
+    }
+
+    private boolean isMember(Long userId) {
+        return userId != null && userId > 0;
+    }
+
+    // 정렬 종류별 커서 키 값
+    private long sortValue(RecipeListResponse r, String sort) {
+        if ("VIEW_DESC".equals(sort)) {
+            return r.getRcpViewCount() == null ? 0 : r.getRcpViewCount();
+        }
+        if ("LEVEL_DESC".equals(sort)) {
+            return r.getLevel() == null ? 0 : r.getLevel();
+        }
+        if ("MATCHRATE_DESC".equals(sort)) {
+            return r.getMatchRate();
+        }
+        if ("TRENDING".equals(sort)) {
+            return trendingRecipes.scoreOf(r.getRcpId());
+        }
+        return r.getRcpId();
+    }
+
+
+    /**
+     * 레시피 상세 (재료 + 단계, 캐시 우선)
+     */
+    public RecipeResponse getRecipeDetail(Long rcpId) {
+        RecipeResponse detail = recipeDetailCache.get(rcpId, id -> {
+            Recipe recipe = recipeMapper.selectRecipeDetail(id);
+            return recipe == null ? null : RecipeResponse.from(recipe);
+        });
+        if (detail == null) {
+            throw new RuntimeException("레시피를 찾을 수 없습니다. ID: " + rcpId);
+        }
+        // 조회수는 레시피를 열 때 호출되는 getRecipeSteps에서만 셈 (둘 다 부르는 클라이언트가 두 번 세지 않도록)
+        return detail;
+    }
 
     /**
      * 레시피 삭제
@@ -84,13 +226,37 @@ public class RecipeService {
         recipeMapper.deleteRecipeIngredients(rcpId);
         recipeMapper.deleteRecipeSteps(rcpId);
         recipeMapper.deleteRecipe(rcpId);
+        // 다시 읽는 색인/집계가 커밋되지 않은 삭제를 보지 않도록 커밋 후에 갱신
+        TransactionHooks.afterCommit(() -> {
+            nameSearchIndex.removeRecipe(rcpId);
+            recipeMatchEngine.reload();
+            recipeCountService.invalidate();
+            recipeCardCache.invalidate();
+            catalogVersion.bumpRecipes();
+            dashboardStatsService.onRecipeDeleted();
+            recipeDetailCache.invalidate(rcpId);
+            trendingRecipes.remove(rcpId);
+            // 레시피 재료가 빠졌으므로 재료 사용 빈도 재집계
+            ingredientUsageRanking.refresh();
+        });
     }
 
     // RecipeService.java에 추가
+    // 검색 색인으로 ID를 찾고(일치 위치/이름 길이 순) 해당 레시피만 조회
     public List<Recipe> searchRecipesByName(String keyword) {
-        return recipeMapper.searchRecipesByName(keyword);
+        List<Long> rcpIds = nameSearchIndex.searchRecipes(keyword);
+        if (rcpIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+        Map<Long, Recipe> byId = recipeMapper.selectRecipesByIds(rcpIds).stream()
+                .collect(Collectors.toMap(Recipe::getRcpId, r -> r));
+        return rcpIds.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
     }
 
+    @Transactional
     public Recipe updateRecipeBasicInfo(Long rcpId, Recipe recipe) {
         Recipe existing = recipeMapper.selectRecipeById(rcpId);
         if (existing == null) {
@@ -99,10 +265,28 @@ public class RecipeService {
         existing.setRcpName(recipe.getRcpName());
         existing.setRcpImgUrl(recipe.getRcpImgUrl());
         recipeMapper.updateRecipe(existing);
+        // 이름/이미지는 재료 구성과 무관하므로 일치율 엔진은 다시 읽지 않음
+        TransactionHooks.afterCommit(() -> {
+            nameSearchIndex.putRecipe(rcpId, existing.getRcpName());
+            recipeCardCache.invalidate();
+            catalogVersion.bumpRecipes();
+            recipeDetailCache.invalidate(rcpId);
+        });
         return recipeMapper.selectRecipeById(rcpId);
     }
 
+    // 목록에서 레시피를 열 때 호출되므로 조회수도 함께 기록
     public List<RecipeStep> getRecipeSteps(Long rcpId) {
-        return recipeMapper.selectRecipeSteps(rcpId);
+        List<RecipeStep> steps = recipeMapper.selectRecipeSteps(rcpId);
+        if (!steps.isEmpty()) {
+            recordView(rcpId);
+        }
+        return steps;
+    }
+
+    // 누적 조회수(지연 반영)와 급상승 순위에 함께 기록
+    private void recordView(Long rcpId) {
+        recipeViewCounter.recordView(rcpId);
+        trendingRecipes.record(rcpId);
     }
 }
\ No newline at end of file
@@ -0,0 +1,105 @@
+package com.korit.team_ljco.service;
+
+import com.korit.team_ljco.mapper.RecipeMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 레시피 조회수 지연 반영
+ * 조회 시에는 레시피별 LongAdder만 올리고, 주기적으로 모인 증가분을 묶어서 한 번에 UPDATE 한다.
+ * 인기 레시피 행에 조회마다 잠금이 걸리지 않고 요청 경로에 DB 쓰기가 없다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RecipeViewCounter {
+
+    // UPDATE 한 번에 담을 레시피 수
+    private static final int BATCH_SIZE = 500;
+
+    private final RecipeMapper recipeMapper;
+    private final CatalogVersion catalogVersion;
+    private final RecipeCardCache recipeCardCache;
+
+    private final Map<Long, Counter> counters = new ConcurrentHashMap<>();
+
+    /**
+     * 조회 1회 기록 (DB 접근 없음)
+     */
+    public void recordView(Long rcpId) {
+        counters.computeIfAbsent(rcpId, k -> new Counter()).views.increment();
+    }
+
+    /**
+     * 아직 반영 안 된 증가분을 묶어서 UPDATE (기본 10초마다)
+     */
+    @Scheduled(fixedDelayString = "${recipe.view-flush-ms:10000}")
+    public synchronized void flush() {
+        Map<Long, Long> batch = new LinkedHashMap<>();
+        Map<Long, Long> totals = new LinkedHashMap<>();
+        int flushed = 0;
+
+        for (Map.Entry<Long, Counter> e : counters.entrySet()) {
+            Counter counter = e.getValue();
+            // 초기화하지 않고 누적값과 이미 반영한 값의 차이만 보내므로 flush 중 증가분도 잃지 않음
+            long total = counter.views.sum();
+            long delta = total - counter.flushed;
+            if (delta == 0) {
+                continue;
+            }
+            batch.put(e.getKey(), delta);
+            totals.put(e.getKey(), total);
+            if (batch.size() >= BATCH_SIZE) {
+                flushed += write(batch, totals);
+            }
+        }
+        if (!batch.isEmpty()) {
+            flushed += write(batch, totals);
+        }
+        if (flushed > 0) {
+            // 새 ETag로 이전 조회수/순서가 캐시된 목록이 나가지 않도록 캐시를 먼저 비움
+            recipeCardCache.invalidate();
+            catalogVersion.bumpRecipes();
+            log.debug("레시피 조회수 반영: {}개 레시피", flushed);
+        }
+    }
+
+    /**
+     * 종료 전 남은 증가분 반영
+     */
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    // 실패하면 반영한 값을 올리지 않으므로 다음 flush에서 다시 시도
+    private int write(Map<Long, Long> batch, Map<Long, Long> totals) {
+        int size = batch.size();
+        try {
+            recipeMapper.addViewCounts(batch);
+            for (Map.Entry<Long, Long> e : totals.entrySet()) {
+                counters.get(e.getKey()).flushed = e.getValue();
+            }
+        } catch (Exception e) {
+            log.warn("레시피 조회수 반영 실패 ({}개): {}", size, e.getMessage());
+            size = 0;
+        }
+        batch.clear();
+        totals.clear();
+        return size;
+    }
+
+    private static final class Counter {
+        final LongAdder views = new LongAdder();
+        // flush()에서만 읽고 씀
+        long flushed;
+    }
+}
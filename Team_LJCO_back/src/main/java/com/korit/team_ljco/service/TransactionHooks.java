@@ -0,0 +1,30 @@
+package com.korit.team_ljco.service;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트랜잭션 커밋 이후 실행할 작업 등록
+ * 메모리 캐시/색인은 롤백될 수 있는 변경을 먼저 반영하면 DB와 어긋나므로 커밋된 뒤에 갱신한다.
+ */
+public final class TransactionHooks {
+
+    private TransactionHooks() {
+    }
+
+    /**
+     * 진행 중인 트랜잭션이 있으면 커밋 후에, 없으면 바로 실행 (롤백되면 실행하지 않음)
+     */
+    public static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
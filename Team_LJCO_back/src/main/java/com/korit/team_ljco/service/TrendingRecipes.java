@@ -0,0 +1,248 @@
+package com.korit.team_ljco.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * 최근 N시간 조회 기준 급상승 레시피
+ * 시간 구간(bucket)마다 크기가 고정된 Space-Saving 요약을 두고 오래된 구간은 재사용한다.
+ * 레시피/조회 수와 관계없이 메모리는 구간 수 × capacity로 고정되고,
+ * 상위 K 조회는 구간 요약만 합쳐서 rcp 테이블을 보지 않는다.
+ */
+@Component
+public class TrendingRecipes {
+
+    private final int bucketCount;
+    private final long bucketMillis;
+    private final int capacity;
+    private final long refreshMillis;
+
+    private final Summary[] buckets;
+
+    private volatile Ranking ranking = Ranking.EMPTY;
+
+    public TrendingRecipes(@Value("${trending.window-hours:6}") int windowHours,
+                           @Value("${trending.bucket-minutes:60}") int bucketMinutes,
+                           @Value("${trending.capacity:200}") int capacity,
+                           @Value("${trending.refresh-ms:5000}") long refreshMillis) {
+        this.bucketMillis = bucketMinutes * 60_000L;
+        this.bucketCount = Math.max(1, (int) (windowHours * 60L / bucketMinutes));
+        this.capacity = capacity;
+        this.refreshMillis = refreshMillis;
+        this.buckets = new Summary[bucketCount];
+        for (int i = 0; i < bucketCount; i++) {
+            buckets[i] = new Summary(capacity);
+        }
+    }
+
+    /**
+     * 조회 1회 기록
+     */
+    public void record(Long rcpId) {
+        long epoch = System.currentTimeMillis() / bucketMillis;
+        Summary bucket = buckets[(int) (epoch % bucketCount)];
+        synchronized (bucket) {
+            // 한 바퀴 돌아온 구간이면 비우고 재사용
+            if (bucket.epoch != epoch) {
+                bucket.reset(epoch);
+            }
+            bucket.offer(rcpId);
+        }
+    }
+
+    /**
+     * 삭제된 레시피를 모든 구간에서 빼고 다음 조회 때 순위를 다시 합산
+     */
+    public void remove(Long rcpId) {
+        for (Summary bucket : buckets) {
+            synchronized (bucket) {
+                bucket.remove(rcpId);
+            }
+        }
+        synchronized (this) {
+            this.ranking = Ranking.EMPTY;
+        }
+    }
+
+    /**
+     * 급상승 순위(점수 내림차순, 동률이면 rcp_id 내림차순) offset 페이지의 레시피 ID
+     * keywordIds가 null이 아니면 그 안의 레시피만
+     */
+    public List<Long> rank(Set<Long> keywordIds, int offset, int limit) {
+        Ranking r = current();
+        List<Long> pageIds = new ArrayList<>(limit);
+        int skipped = 0;
+        for (int i = 0; i < r.rcpIds.length && pageIds.size() < limit; i++) {
+            if (keywordIds != null && !keywordIds.contains(r.rcpIds[i])) {
+                continue;
+            }
+            if (skipped++ < offset) {
+                continue;
+            }
+            pageIds.add(r.rcpIds[i]);
+        }
+        return pageIds;
+    }
+
+    /**
+     * 커서 방식: (score, rcpId) 다음 순위부터 limit개
+     */
+    public List<Long> rankAfter(Set<Long> keywordIds, long afterScore, long afterRcpId, int limit) {
+        Ranking r = current();
+        List<Long> pageIds = new ArrayList<>(limit);
+        for (int i = 0; i < r.rcpIds.length && pageIds.size() < limit; i++) {
+            boolean after = r.scores[i] < afterScore
+                    || (r.scores[i] == afterScore && r.rcpIds[i] < afterRcpId);
+            if (!after || (keywordIds != null && !keywordIds.contains(r.rcpIds[i]))) {
+                continue;
+            }
+            pageIds.add(r.rcpIds[i]);
+        }
+        return pageIds;
+    }
+
+    /**
+     * 순위에 든 레시피 수 (keywordIds가 null이 아니면 그 안에서)
+     */
+    public int count(Set<Long> keywordIds) {
+        Ranking r = current();
+        if (keywordIds == null) {
+            return r.rcpIds.length;
+        }
+        int count = 0;
+        for (long rcpId : r.rcpIds) {
+            if (keywordIds.contains(rcpId)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * 현재 순위의 점수 (순위에 없으면 0)
+     */
+    public long scoreOf(Long rcpId) {
+        Long score = current().scoreById.get(rcpId);
+        return score == null ? 0 : score;
+    }
+
+    // 구간 요약 합산은 refresh-ms마다 한 번만
+    private Ranking current() {
+        Ranking r = this.ranking;
+        long now = System.currentTimeMillis();
+        if (now - r.builtAt < refreshMillis) {
+            return r;
+        }
+        synchronized (this) {
+            r = this.ranking;
+            if (now - r.builtAt < refreshMillis) {
+                return r;
+            }
+            r = merge(now);
+            this.ranking = r;
+            return r;
+        }
+    }
+
+    private Ranking merge(long now) {
+        long epoch = now / bucketMillis;
+        Map<Long, Long> totals = new HashMap<>();
+        for (Summary bucket : buckets) {
+            synchronized (bucket) {
+                // 창 밖으로 밀려난 구간은 제외
+                if (bucket.epoch <= epoch - bucketCount) {
+                    continue;
+                }
+                for (Map.Entry<Long, long[]> e : bucket.counts.entrySet()) {
+                    totals.merge(e.getKey(), e.getValue()[0], Long::sum);
+                }
+            }
+        }
+
+        List<Map.Entry<Long, Long>> sorted = new ArrayList<>(totals.entrySet());
+        sorted.sort(Map.Entry.<Long, Long>comparingByValue().reversed()
+                .thenComparing(Map.Entry.<Long, Long>comparingByKey().reversed()));
+        int size = Math.min(sorted.size(), capacity);
+
+        long[] rcpIds = new long[size];
+        long[] scores = new long[size];
+        Map<Long, Long> scoreById = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+            rcpIds[i] = sorted.get(i).getKey();
+            scores[i] = sorted.get(i).getValue();
+            scoreById.put(rcpIds[i], scores[i]);
+        }
+        return new Ranking(rcpIds, scores, scoreById, now);
+    }
+
+    // 한 구간의 Space-Saving 요약: 가득 차면 가장 적은 항목을 밀어내고 그 값 + 1로 시작
+    private static final class Summary {
+        final int capacity;
+        // rcpId → {count, error, rcpId}
+        final Map<Long, long[]> counts = new HashMap<>();
+        // (count, rcpId) 오름차순, 첫 항목이 밀어낼 대상
+        final TreeSet<long[]> byCount = new TreeSet<>(
+                Comparator.<long[]>comparingLong(e -> e[0]).thenComparingLong(e -> e[2]));
+        long epoch = -1;
+
+        Summary(int capacity) {
+            this.capacity = capacity;
+        }
+
+        void reset(long epoch) {
+            counts.clear();
+            byCount.clear();
+            this.epoch = epoch;
+        }
+
+        void remove(Long rcpId) {
+            long[] entry = counts.remove(rcpId);
+            if (entry != null) {
+                byCount.remove(entry);
+            }
+        }
+
+        void offer(Long rcpId) {
+            long[] entry = counts.get(rcpId);
+            if (entry != null) {
+                byCount.remove(entry);
+                entry[0]++;
+                byCount.add(entry);
+                return;
+            }
+            if (counts.size() < capacity) {
+                entry = new long[]{1, 0, rcpId};
+            } else {
+                long[] min = byCount.pollFirst();
+                counts.remove(min[2]);
+                entry = new long[]{min[0] + 1, min[0], rcpId};
+            }
+            counts.put(rcpId, entry);
+            byCount.add(entry);
+        }
+    }
+
+    private static final class Ranking {
+        static final Ranking EMPTY = new Ranking(new long[0], new long[0], Map.of(), 0);
+
+        final long[] rcpIds;
+        final long[] scores;
+        final Map<Long, Long> scoreById;
+        final long builtAt;
+
+        Ranking(long[] rcpIds, long[] scores, Map<Long, Long> scoreById, long builtAt) {
+            this.rcpIds = rcpIds;
+            this.scores = scores;
+            this.scoreById = scoreById;
+            this.builtAt = builtAt;
+        }
+    }
+}
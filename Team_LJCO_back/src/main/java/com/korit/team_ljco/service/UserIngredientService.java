@@ -16,6 +16,10 @@ import java.util.List;
 public class UserIngredientService {
 
     private final UserIngredientMapper userIngredientMapper;
+    private final UserMatchRateStore userMatchRateStore;
+    private final DashboardStatsService dashboardStatsService;
+    private final CatalogVersion catalogVersion;
+    private final IngredientFreshnessService ingredientFreshnessService;
 
     /**
      * 사용자 보유 재료 전체 조회
@@ -53,6 +57,12 @@ public class UserIngredientService {
                 .build();
 
         userIngredientMapper.insertUserIngredient(userIngredient);
+        userMatchRateStore.onIngredientAdded(userId, request.getIngId());
+        TransactionHooks.afterCommit(() -> {
+            ingredientFreshnessService.onIngredientAdded(userId, request.getIngId());
+            dashboardStatsService.onPantryItemsAdded(1);
+            catalogVersion.bumpPantries();
+        });
         return userIngredientMapper.selectUserIngredientById(userIngredient.getUserIngId());
     }
 
@@ -81,6 +91,12 @@ public class UserIngredientService {
             throw new RuntimeException("사용자 재료를 찾을 수 없습니다. ID: " + userIngId);
         }
         userIngredientMapper.deleteUserIngredient(userIngId);
+        userMatchRateStore.onIngredientRemoved(userIngredient.getUserId(), userIngredient.getIngId());
+        TransactionHooks.afterCommit(() -> {
+            ingredientFreshnessService.onIngredientRemoved(userIngredient.getUserId(), userIngredient.getIngId());
+            dashboardStatsService.onPantryItemsRemoved(1);
+            catalogVersion.bumpPantries();
+        });
     }
 
     /**
@@ -88,7 +104,13 @@ public class UserIngredientService {
      */
     @Transactional
     public void deleteAllUserIngredients(Long userId) {
-        userIngredientMapper.deleteUserIngredientsByUser(userId);
+        int removed = userIngredientMapper.deleteUserIngredientsByUser(userId);
+        userMatchRateStore.evict(userId);
+        TransactionHooks.afterCommit(() -> {
+            ingredientFreshnessService.onAllIngredientsRemoved(userId);
+            dashboardStatsService.onPantryItemsRemoved(removed);
+            catalogVersion.bumpPantries();
+        });
     }
 
     /**
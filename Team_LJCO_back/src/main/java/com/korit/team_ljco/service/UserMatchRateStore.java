@@ -0,0 +1,204 @@
+package com.korit.team_ljco.service;
+
+import com.korit.team_ljco.entity.UserIngredient;
+import com.korit.team_ljco.mapper.UserIngredientMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.function.Consumer;
+
+/**
+ * 사용자별 레시피 보유 재료 수 저장소
+ * (user, recipe)별 보유 재료 수와 매칭률 순위를 메모리에 유지하고,
+ * 보유 재료가 바뀌면 재료→레시피 역색인으로 해당 재료가 들어간 레시피만 갱신한다.
+ * 변경은 트랜잭션이 커밋된 뒤에 반영하고, 변경이 진행 중일 때 DB에서 다시 적재한 결과는
+ * 변경이 포함됐는지 알 수 없으므로 캐시에 넣지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserMatchRateStore {
+
+    // 메모리에 유지할 최대 사용자 수 (가장 오래 안 쓴 사용자부터 제거)
+    private static final int MAX_USERS = 1000;
+
+    private final RecipeMatchEngine recipeMatchEngine;
+    private final UserIngredientMapper userIngredientMapper;
+
+    private final Map<Long, UserMatches> users = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, UserMatches> eldest) {
+            return size() > MAX_USERS;
+        }
+    };
+
+    // users 잠금으로 보호: 변경 시작/종료마다 증가하는 세대, 아직 끝나지 않은 변경 수
+    private long generation;
+    private int pendingChanges;
+
+    /**
+     * 매칭률 내림차순(동률이면 rcp_id 내림차순) offset 페이지의 레시피 ID
+     */
+    public List<Long> rankByMatchRate(Long userId, Set<Long> keywordIds, int offset, int limit) {
+        UserMatches matches = get(userId);
+        return collect(matches.ranking.descendingIterator(), keywordIds, offset, limit);
+    }
+
+    /**
+     * 커서 방식: (matchRate, rcpId) 다음 순위부터 limit개의 레시피 ID
+     */
+    public List<Long> rankByMatchRateAfter(Long userId, Set<Long> keywordIds, long afterRate, long afterRcpId, int limit) {
+        UserMatches matches = get(userId);
+        long afterKey = RecipeMatchEngine.sortKey((int) afterRate, afterRcpId);
+        return collect(matches.ranking.headSet(afterKey, false).descendingIterator(), keywordIds, 0, limit);
+    }
+
+    /**
+     * 보유 재료 추가 시 해당 재료가 들어간 레시피만 +1 (커밋 후 반영)
+     */
+    public void onIngredientAdded(Long userId, Integer ingId) {
+        change(userId, matches -> matches.apply(ingId, 1));
+    }
+
+    /**
+     * 보유 재료 삭제 시 해당 재료가 들어간 레시피만 -1 (커밋 후 반영)
+     */
+    public void onIngredientRemoved(Long userId, Integer ingId) {
+        change(userId, matches -> matches.apply(ingId, -1));
+    }
+
+    /**
+     * 보유 재료 전체 삭제 등으로 다시 적재가 필요할 때 (트랜잭션이 끝난 뒤 제거)
+     */
+    public void evict(Long userId) {
+        change(userId, null);
+    }
+
+    // delta가 null이면 커밋/롤백과 관계없이 사용자를 제거
+    private void change(Long userId, Consumer<UserMatches> delta) {
+        synchronized (users) {
+            generation++;
+            pendingChanges++;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            finish(userId, delta, true);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                finish(userId, delta, status == STATUS_COMMITTED);
+            }
+        });
+    }
+
+    // 캐시에 남은 결과는 변경 시작 전에 적재된 것이므로 delta를 그대로 적용할 수 있음
+    private void finish(Long userId, Consumer<UserMatches> delta, boolean committed) {
+        synchronized (users) {
+            generation++;
+            pendingChanges--;
+            if (delta == null) {
+                users.remove(userId);
+                return;
+            }
+            UserMatches matches = users.get(userId);
+            if (matches != null && committed) {
+                delta.accept(matches);
+            }
+        }
+    }
+
+    // keywordIds는 이름 검색 색인 결과 (null이면 전체)
+    private List<Long> collect(Iterator<Long> keys, Set<Long> keywordIds, int offset, int limit) {
+
+        List<Long> pageIds = new ArrayList<>(limit);
+        int skipped = 0;
+        while (keys.hasNext() && pageIds.size() < limit) {
+            long rcpId = RecipeMatchEngine.rcpIdOf(keys.next());
+            // 동시 갱신 중에는 같은 레시피가 두 번 보일 수 있음
+            if (pageIds.contains(rcpId)) {
+                continue;
+            }
+            if (keywordIds != null && !keywordIds.contains(rcpId)) {
+                continue;
+            }
+            if (skipped++ < offset) {
+                continue;
+            }
+            pageIds.add(rcpId);
+        }
+        return pageIds;
+    }
+
+    // 레시피 스냅샷이 바뀌었으면 다시 적재
+    private UserMatches get(Long userId) {
+        RecipeMatchEngine.Snapshot current = recipeMatchEngine.snapshot();
+        long seen;
+        boolean quiet;
+        synchronized (users) {
+            UserMatches matches = users.get(userId);
+            if (matches != null && matches.snapshot == current) {
+                return matches;
+            }
+            seen = generation;
+            quiet = pendingChanges == 0;
+        }
+        UserMatches matches = build(userId, current);
+        synchronized (users) {
+            // 적재 중에 변경이 있었거나 진행 중이었으면 이번 요청에만 사용
+            if (quiet && generation == seen) {
+                users.put(userId, matches);
+            }
+        }
+        return matches;
+    }
+
+    private UserMatches build(Long userId, RecipeMatchEngine.Snapshot s) {
+        int[] owned = new int[s.rcpIds.length];
+        for (UserIngredient ui : userIngredientMapper.selectUserIngredients(userId)) {
+            for (int idx : s.recipesContaining(ui.getIngId())) {
+                owned[idx]++;
+            }
+        }
+        return new UserMatches(s, owned);
+    }
+
+    private static final class UserMatches {
+        final RecipeMatchEngine.Snapshot snapshot;
+        final int[] owned;
+        final NavigableSet<Long> ranking = new ConcurrentSkipListSet<>();
+
+        UserMatches(RecipeMatchEngine.Snapshot snapshot, int[] owned) {
+            this.snapshot = snapshot;
+            this.owned = owned;
+            for (int idx = 0; idx < owned.length; idx++) {
+                ranking.add(key(idx));
+            }
+        }
+
+        // 쓰기만 직렬화, 읽기는 skip list를 잠금 없이 순회
+        synchronized void apply(int ingId, int delta) {
+            for (int idx : snapshot.recipesContaining(ingId)) {
+                ranking.remove(key(idx));
+                owned[idx] += delta;
+                ranking.add(key(idx));
+            }
+        }
+
+        private long key(int idx) {
+            int rate = RecipeMatchEngine.rate(owned[idx], snapshot.ingCounts[idx]);
+            return RecipeMatchEngine.sortKey(rate, snapshot.rcpIds[idx]);
+        }
+    }
+}
@@ -4,6 +4,7 @@ import com.korit.team_ljco.entity.RecipeStep;
 import com.korit.team_ljco.entity.User;
 import com.korit.team_ljco.jwt.JwtTokenProvider;
 import com.korit.team_ljco.mapper.UserMapper;
+import com.korit.team_ljco.security.PrincipalCache;
 import com.korit.team_ljco.security.oauth2.OAuth2UserInfo;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
@@ -18,6 +19,8 @@ public class UserServiceImpl implements UserService {
 
     private final UserMapper userMapper;
     private final JwtTokenProvider jwtTokenProvider;
+    private final DashboardStatsService dashboardStatsService;
+    private final PrincipalCache principalCache;
 
     @Value("${admin.username}")
     private String adminUsername;
@@ -26,9 +29,12 @@ public class UserServiceImpl implements UserService {
     private String adminPassword;
 
     // 생성자
-    public UserServiceImpl(UserMapper userMapper, JwtTokenProvider jwtTokenProvider) {
+    public UserServiceImpl(UserMapper userMapper, JwtTokenProvider jwtTokenProvider,
+                           DashboardStatsService dashboardStatsService, PrincipalCache principalCache) {
         this.userMapper = userMapper;
         this.jwtTokenProvider = jwtTokenProvider;
+        this.dashboardStatsService = dashboardStatsService;
+        this.principalCache = principalCache;
     }
 
     public String adminLogin(String username, String password) {
@@ -72,6 +78,7 @@ public class UserServiceImpl implements UserService {
             existingUser.setUserName(userInfo.getName());
             existingUser.setUserEmail(userInfo.getEmail());
             userMapper.updateUser(existingUser);
+            invalidatePrincipal(existingUser.getUserId());
             return existingUser;
         }
 
@@ -84,6 +91,7 @@ public class UserServiceImpl implements UserService {
                 .build();
 
         userMapper.insertUser(newUser);
+        TransactionHooks.afterCommit(dashboardStatsService::onUserCreated);
         return newUser;
     }
 
@@ -106,13 +114,23 @@ public class UserServiceImpl implements UserService {
         }
         user.setUserRole(role);
         userMapper.updateUser(user);
+        invalidatePrincipal(userId);
         return user;
     }
 
     @Override
     @Transactional
     public void deleteUser(Long userId) {
-        userMapper.deleteUser(userId);
+        if (userMapper.deleteUser(userId) > 0) {
+            TransactionHooks.afterCommit(dashboardStatsService::onUserDeleted);
+        }
+        invalidatePrincipal(userId);
+    }
+
+    // 커밋 전에도 비우고(이 트랜잭션 안의 요청용), 커밋 후 다시 비워 그사이 이전 값으로 채워진 항목을 제거
+    private void invalidatePrincipal(Long userId) {
+        principalCache.invalidate(userId);
+        TransactionHooks.afterCommit(() -> principalCache.invalidate(userId));
     }
 
     @Override
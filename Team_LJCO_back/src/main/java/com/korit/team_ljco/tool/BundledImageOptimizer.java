@@ -0,0 +1,156 @@
+package com.korit.team_ljco.tool;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.korit.team_ljco.service.ImageScaler;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * 빌드 시 기본 재료 이미지(static/images) 최적화 (pom.xml의 exec-maven-plugin이 process-classes 단계에서 실행)
+ * 각 PNG를 목록용 너비로 줄여 다시 압축하고, 내용 해시를 넣은 이름({이름}_w{너비}.{해시}.png)으로 저장한 뒤
+ * 원본 파일명 → 너비별 파일명 매니페스트(manifest.json)를 함께 만든다.
+ * 원본 목록이 매니페스트와 같고 원본이 매니페스트보다 새롭지 않으면 다시 만들지 않는다.
+ * 빌드 전용이라 애플리케이션 jar에는 넣지 않는다(pom.xml의 maven-jar-plugin excludes).
+ *
+ * 사용법: BundledImageOptimizer {원본 디렉토리} {출력 디렉토리}
+ */
+@Slf4j
+public final class BundledImageOptimizer {
+
+    public static final String MANIFEST = "manifest.json";
+
+    // 재료 목록/그리드에서 쓰는 너비
+    public static final List<Integer> WIDTHS = List.of(128, 256);
+
+    // 빌드 시 한 번만 하므로 가장 강한 deflate 압축
+    private static final float PNG_COMPRESSION = 0f;
+
+    // 파일명에 넣을 해시 길이
+    private static final int HASH_LENGTH = 10;
+
+    private BundledImageOptimizer() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            throw new IllegalArgumentException("사용법: BundledImageOptimizer {원본 디렉토리} {출력 디렉토리}");
+        }
+        Path sourceDir = Paths.get(args[0]);
+        Path outputDir = Paths.get(args[1]);
+        Path manifestPath = outputDir.resolve(MANIFEST);
+
+        List<Path> sources = listPngs(sourceDir);
+        if (isUpToDate(sources, manifestPath)) {
+            log.info("기본 이미지 최적화 변경 없음: {}개", sources.size());
+            return;
+        }
+
+        // 이전 결과 정리 후 다시 생성
+        Files.createDirectories(outputDir);
+        try (DirectoryStream<Path> old = Files.newDirectoryStream(outputDir)) {
+            for (Path p : old) {
+                Files.deleteIfExists(p);
+            }
+        }
+
+        Map<String, Map<Integer, String>> manifest = new TreeMap<>();
+        long before = 0;
+        long after = 0;
+        for (Path source : sources) {
+            String name = source.getFileName().toString();
+            BufferedImage image = ImageIO.read(source.toFile());
+            if (image == null) {
+                log.warn("읽을 수 없는 기본 이미지 건너뜀: {}", name);
+                continue;
+            }
+            before += Files.size(source);
+
+            Map<Integer, String> variants = new LinkedHashMap<>();
+            for (int width : WIDTHS) {
+                // 원본보다 큰 너비는 확대하지 않고 원본 크기로 다시 압축만
+                BufferedImage scaled = width < image.getWidth() ? ImageScaler.scale(image, width, true) : image;
+                Path tmp = Files.createTempFile(outputDir, "optimize-", ".tmp");
+                try {
+                    ImageScaler.write(scaled, "png", PNG_COMPRESSION, tmp);
+                    String hashed = hashedName(name, width, tmp);
+                    Files.move(tmp, outputDir.resolve(hashed), StandardCopyOption.REPLACE_EXISTING);
+                    after += Files.size(outputDir.resolve(hashed));
+                    variants.put(width, hashed);
+                } finally {
+                    Files.deleteIfExists(tmp);
+                }
+            }
+            manifest.put(name, variants);
+        }
+
+        new ObjectMapper().writerWithDefaultPrettyPrinter().writeValue(manifestPath.toFile(), manifest);
+        log.info("기본 이미지 최적화 {}개 처리: 원본 {}KB → 너비별 합계 {}KB",
+                manifest.size(), before / 1024, after / 1024);
+    }
+
+    private static List<Path> listPngs(Path dir) throws IOException {
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(dir, "*.png")) {
+            List<Path> result = new ArrayList<>();
+            stream.forEach(result::add);
+            result.sort(null);
+            return result;
+        }
+    }
+
+    private static boolean isUpToDate(List<Path> sources, Path manifestPath) throws IOException {
+        if (!Files.isRegularFile(manifestPath)) {
+            return false;
+        }
+        // 삭제/추가된 원본이 있으면 매니페스트 항목과 최적화본을 다시 만듦
+        Set<String> built = new ObjectMapper()
+                .readValue(manifestPath.toFile(), new TypeReference<Map<String, Object>>() {})
+                .keySet();
+        Set<String> names = sources.stream()
+                .map(source -> source.getFileName().toString())
+                .collect(Collectors.toSet());
+        if (!built.equals(names)) {
+            return false;
+        }
+        FileTime builtAt = Files.getLastModifiedTime(manifestPath);
+        for (Path source : sources) {
+            if (Files.getLastModifiedTime(source).compareTo(builtAt) > 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String hashedName(String name, int width, Path file) throws IOException {
+        String hash = HexFormat.of().formatHex(sha256(Files.readAllBytes(file))).substring(0, HASH_LENGTH);
+        int dot = name.lastIndexOf('.');
+        return name.substring(0, dot) + "_w" + width + "." + hash + name.substring(dot);
+    }
+
+    private static byte[] sha256(byte[] bytes) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(bytes);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
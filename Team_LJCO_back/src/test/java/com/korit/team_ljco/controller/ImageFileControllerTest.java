@@ -0,0 +1,47 @@
+package com.korit.team_ljco.controller;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ImageFileControllerTest {
+
+    private static final long LENGTH = 1000;
+
+    @Test
+    void closedRange() {
+        assertThat(ImageFileController.parseRange("bytes=0-99", LENGTH)).containsExactly(0, 99);
+    }
+
+    @Test
+    void openEndedRangeRunsToLastByte() {
+        assertThat(ImageFileController.parseRange("bytes=500-", LENGTH)).containsExactly(500, 999);
+    }
+
+    @Test
+    void suffixRangeTakesLastBytes() {
+        assertThat(ImageFileController.parseRange("bytes=-100", LENGTH)).containsExactly(900, 999);
+        // 파일보다 긴 suffix는 전체
+        assertThat(ImageFileController.parseRange("bytes=-5000", LENGTH)).containsExactly(0, 999);
+    }
+
+    @Test
+    void endIsClampedToLength() {
+        assertThat(ImageFileController.parseRange("bytes=10-5000", LENGTH)).containsExactly(10, 999);
+    }
+
+    @Test
+    void unsatisfiableRangesReturnNull() {
+        assertThat(ImageFileController.parseRange("bytes=1000-", LENGTH)).isNull();
+        assertThat(ImageFileController.parseRange("bytes=50-10", LENGTH)).isNull();
+        assertThat(ImageFileController.parseRange("bytes=-0", LENGTH)).isNull();
+    }
+
+    @Test
+    void unsupportedFormsFallBackToFullResponse() {
+        assertThat(ImageFileController.parseRange("bytes=0-1,5-6", LENGTH)).isEmpty();
+        assertThat(ImageFileController.parseRange("items=0-1", LENGTH)).isEmpty();
+        assertThat(ImageFileController.parseRange("bytes=abc-", LENGTH)).isEmpty();
+        assertThat(ImageFileController.parseRange("bytes=100", LENGTH)).isEmpty();
+    }
+}
@@ -0,0 +1,65 @@
+package com.korit.team_ljco.dto;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RecipeCursorTest {
+
+    @Test
+    void encodeDecodeRoundTrip() {
+        String token = new RecipeCursor("VIEW_DESC", 42L, 1234L).encode();
+
+        RecipeCursor decoded = RecipeCursor.decode(token, "VIEW_DESC");
+
+        assertThat(decoded.getSort()).isEqualTo("VIEW_DESC");
+        assertThat(decoded.getValue()).isEqualTo(42L);
+        assertThat(decoded.getRcpId()).isEqualTo(1234L);
+    }
+
+    @Test
+    void encodedTokenIsUrlSafe() {
+        String token = new RecipeCursor("MATCHRATE_DESC", Long.MAX_VALUE, Long.MAX_VALUE).encode();
+
+        assertThat(token).matches("[A-Za-z0-9_-]+");
+    }
+
+    @Test
+    void rejectsCursorIssuedForAnotherSort() {
+        String token = new RecipeCursor("VIEW_DESC", 1L, 2L).encode();
+
+        assertThatThrownBy(() -> RecipeCursor.decode(token, "LEVEL_DESC"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("잘못된 커서입니다.");
+    }
+
+    @Test
+    void rejectsMalformedBase64() {
+        assertThatThrownBy(() -> RecipeCursor.decode("!!!not-base64!!!", "VIEW_DESC"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("잘못된 커서입니다.");
+    }
+
+    @Test
+    void rejectsWrongNumberOfParts() {
+        assertThatThrownBy(() -> RecipeCursor.decode(raw("VIEW_DESC:1"), "VIEW_DESC"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> RecipeCursor.decode(raw("VIEW_DESC:1:2:3"), "VIEW_DESC"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void rejectsNonNumericValues() {
+        assertThatThrownBy(() -> RecipeCursor.decode(raw("VIEW_DESC:abc:2"), "VIEW_DESC"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("잘못된 커서입니다.");
+    }
+
+    private static String raw(String s) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(s.getBytes(StandardCharsets.UTF_8));
+    }
+}
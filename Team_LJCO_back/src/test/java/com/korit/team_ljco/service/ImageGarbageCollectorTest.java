@@ -0,0 +1,109 @@
+package com.korit.team_ljco.service;
+
+import com.korit.team_ljco.mapper.RecipeMapper;
+import org.apache.ibatis.cursor.Cursor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ImageGarbageCollectorTest {
+
+    private static final long GRACE_HOURS = 24;
+
+    @TempDir
+    Path uploadDir;
+
+    private RecipeMapper recipeMapper;
+    private ImageGarbageCollector collector;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        recipeMapper = mock(RecipeMapper.class);
+        Cursor<String> cursor = mock(Cursor.class);
+        when(cursor.iterator()).thenAnswer(invocation ->
+                List.of("http://localhost:8080/images/used.png", " ").iterator());
+        when(recipeMapper.streamImageUrls()).thenReturn(cursor);
+
+        ImageService imageService = new ImageService(mock(BundledImages.class));
+        ReflectionTestUtils.setField(imageService, "uploadDir", uploadDir.toString());
+
+        collector = new ImageGarbageCollector(recipeMapper, imageService,
+                mock(PlatformTransactionManager.class), uploadDir.toString(), GRACE_HOURS);
+    }
+
+    @Test
+    void onlyUnreferencedFilesOlderThanGraceAreOrphans() throws IOException {
+        Path oldOrphan = file("old.png", Duration.ofHours(GRACE_HOURS + 1));
+        file("fresh.png", Duration.ofHours(GRACE_HOURS - 1));
+        file("used.png", Duration.ofDays(30));
+
+        Map<String, Object> report = collector.report();
+
+        assertThat(report.get("scanned")).isEqualTo(3);
+        assertThat(report.get("orphans")).isEqualTo(1);
+        assertThat(report.get("files")).isEqualTo(List.of(uploadDir.relativize(oldOrphan).toString()));
+        // dry-run은 지우지 않음
+        assertThat(oldOrphan).exists();
+    }
+
+    @Test
+    void derivedFilesFollowTheirOriginal() throws IOException {
+        Path usedVariant = file("used_w320.png", Duration.ofDays(30));
+        Path usedRefs = file("used.png.refs", Duration.ofDays(30));
+        Path orphanVariant = file("gone_w160.png", Duration.ofDays(30));
+
+        collector.collect();
+
+        assertThat(usedVariant).exists();
+        assertThat(usedRefs).exists();
+        assertThat(orphanVariant).doesNotExist();
+    }
+
+    @Test
+    void collectDeletesOnlyExpiredOrphans() throws IOException {
+        Path oldOrphan = file("old.png", Duration.ofHours(GRACE_HOURS + 1));
+        Path freshOrphan = file("fresh.png", Duration.ofMinutes(5));
+        Path used = file("used.png", Duration.ofDays(30));
+
+        collector.collect();
+
+        assertThat(oldOrphan).doesNotExist();
+        assertThat(freshOrphan).exists();
+        assertThat(used).exists();
+    }
+
+    @Test
+    void fileTouchedAfterScanIsKept() throws IOException {
+        Path reuploaded = file("old.png", Duration.ofHours(GRACE_HOURS + 1));
+        Instant cutoff = Instant.now().minus(Duration.ofHours(GRACE_HOURS));
+        ImageService imageService = (ImageService) ReflectionTestUtils.getField(collector, "imageService");
+
+        // 판단 뒤 삭제 전에 같은 내용이 다시 업로드되어 수정 시각이 갱신된 경우
+        Files.setLastModifiedTime(reuploaded, FileTime.from(Instant.now()));
+
+        assertThat(imageService.deleteIfOlderThan(reuploaded, cutoff)).isFalse();
+        assertThat(reuploaded).exists();
+    }
+
+    private Path file(String name, Duration age) throws IOException {
+        Path path = Files.write(uploadDir.resolve(name), new byte[]{1, 2, 3});
+        Files.setLastModifiedTime(path, FileTime.from(Instant.now().minus(age)));
+        return path;
+    }
+}
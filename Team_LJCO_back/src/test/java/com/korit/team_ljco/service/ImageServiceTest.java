@@ -0,0 +1,86 @@
+package com.korit.team_ljco.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+class ImageServiceTest {
+
+    private static final byte[] JPEG = {(byte) 0xFF, (byte) 0xD8, (byte) 0xFF, (byte) 0xE0, 0, 0x10};
+    private static final byte[] PNG = {(byte) 0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A, 0, 0, 0, 0x0D};
+    private static final byte[] GIF = {'G', 'I', 'F', '8', '9', 'a', 1, 0};
+    private static final byte[] WEBP = {'R', 'I', 'F', 'F', 0x24, 0, 0, 0, 'W', 'E', 'B', 'P', 'V', 'P', '8'};
+
+    @TempDir
+    Path uploadDir;
+
+    private ImageService imageService;
+
+    @BeforeEach
+    void setUp() {
+        imageService = new ImageService(mock(BundledImages.class));
+        ReflectionTestUtils.setField(imageService, "uploadDir", uploadDir.toString());
+        ReflectionTestUtils.setField(imageService, "baseUrl", "http://localhost:8080");
+    }
+
+    @Test
+    void extensionComesFromMagicBytesNotFilename() throws IOException {
+        assertThat(imageService.saveImage(upload("photo.png", JPEG))).endsWith(".jpg");
+        assertThat(imageService.saveImage(upload("photo.jpg", PNG))).endsWith(".png");
+        assertThat(imageService.saveImage(upload("photo.jpg", GIF))).endsWith(".gif");
+        assertThat(imageService.saveImage(upload("photo.jpg", WEBP))).endsWith(".webp");
+    }
+
+    @Test
+    void rejectsNonImageContentWithImageExtension() {
+        byte[] html = "<html><script>".getBytes();
+
+        assertThatThrownBy(() -> imageService.saveImage(upload("evil.jpg", html)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("허용되지 않는 파일 형식");
+    }
+
+    @Test
+    void rejectsTruncatedSignature() {
+        // PNG 시그니처 앞부분만
+        byte[] partial = {(byte) 0x89, 'P', 'N', 'G'};
+
+        assertThatThrownBy(() -> imageService.saveImage(upload("a.png", partial)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void rejectedUploadLeavesNoTempFile() throws IOException {
+        assertThatThrownBy(() -> imageService.saveImage(upload("a.png", "not an image".getBytes())))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        try (Stream<Path> files = Files.list(uploadDir)) {
+            assertThat(files).isEmpty();
+        }
+    }
+
+    @Test
+    void sameContentIsStoredOnce() throws IOException {
+        String first = imageService.saveImage(upload("a.png", PNG));
+        String second = imageService.saveImage(upload("b.png", PNG));
+
+        assertThat(second).isEqualTo(first);
+        String filename = first.substring(first.lastIndexOf('/') + 1);
+        assertThat(imageService.resolveImage(filename)).isRegularFile();
+    }
+
+    private static MockMultipartFile upload(String name, byte[] content) {
+        return new MockMultipartFile("file", name, "image/jpeg", content);
+    }
+}
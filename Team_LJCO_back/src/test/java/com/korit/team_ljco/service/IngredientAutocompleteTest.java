@@ -0,0 +1,72 @@
+package com.korit.team_ljco.service;
+
+import com.korit.team_ljco.entity.Ingredient;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class IngredientAutocompleteTest {
+
+    private IngredientAutocomplete autocomplete;
+
+    @BeforeEach
+    void setUp() {
+        IngredientUsageRanking ranking = mock(IngredientUsageRanking.class);
+        // 사용 빈도 순
+        when(ranking.all()).thenReturn(List.of(
+                ingredient(1, "양파"),
+                ingredient(2, "대파"),
+                ingredient(3, "양배추"),
+                ingredient(4, "Egg"),
+                ingredient(5, "연어")));
+        autocomplete = new IngredientAutocomplete(ranking);
+    }
+
+    @Test
+    void toChoseongConvertsHangulSyllablesOnly() {
+        assertThat(IngredientAutocomplete.toChoseong("양파")).isEqualTo("ㅇㅍ");
+        assertThat(IngredientAutocomplete.toChoseong("까나리")).isEqualTo("ㄲㄴㄹ");
+        assertThat(IngredientAutocomplete.toChoseong("egg 2개")).isEqualTo("egg 2ㄱ");
+    }
+
+    @Test
+    void namePrefixKeepsUsageOrder() {
+        assertThat(ids(autocomplete.suggest("양", 10))).containsExactly(1, 3);
+    }
+
+    @Test
+    void choseongPrefixMatches() {
+        assertThat(ids(autocomplete.suggest("ㅇ", 10))).containsExactly(1, 3, 5);
+        assertThat(ids(autocomplete.suggest("ㅇㅍ", 10))).containsExactly(1);
+        assertThat(ids(autocomplete.suggest("ㄷㅍ", 10))).containsExactly(2);
+    }
+
+    @Test
+    void prefixIsTrimmedAndCaseInsensitive() {
+        assertThat(ids(autocomplete.suggest(" eG ", 10))).containsExactly(4);
+    }
+
+    @Test
+    void emptyPrefixReturnsTopByUsageAndLimitApplies() {
+        assertThat(ids(autocomplete.suggest("", 3))).containsExactly(1, 2, 3);
+        assertThat(ids(autocomplete.suggest(null, 0))).isEmpty();
+    }
+
+    @Test
+    void unknownPrefixReturnsEmpty() {
+        assertThat(autocomplete.suggest("감", 10)).isEmpty();
+    }
+
+    private static Ingredient ingredient(int id, String name) {
+        return Ingredient.builder().ingId(id).ingName(name).build();
+    }
+
+    private static List<Integer> ids(List<Ingredient> ingredients) {
+        return ingredients.stream().map(Ingredient::getIngId).toList();
+    }
+}
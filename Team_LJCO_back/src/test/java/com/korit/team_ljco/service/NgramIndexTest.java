@@ -0,0 +1,62 @@
+package com.korit.team_ljco.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NgramIndexTest {
+
+    private NgramIndex<Long> index;
+
+    @BeforeEach
+    void setUp() {
+        index = new NgramIndex<>();
+        index.put(1L, "양파");
+        index.put(2L, "대파");
+        index.put(3L, "파프리카");
+        index.put(4L, "양배추");
+        index.put(5L, "Apple Pie");
+    }
+
+    @Test
+    void singleCharacterQueryOrdersByPositionThenLengthThenName() {
+        // 앞에서 일치(파프리카) → 같은 위치면 짧은 이름, 이름순(대파 < 양파)
+        assertThat(index.search("파")).containsExactly(3L, 2L, 1L);
+    }
+
+    @Test
+    void multiCharacterQueryMatchesSubstringOnly() {
+        assertThat(index.search("프리")).containsExactly(3L);
+        assertThat(index.search("양배")).containsExactly(4L);
+        // 두 2-gram이 모두 있어도 이어져 있지 않으면 제외
+        assertThat(index.search("양추")).isEmpty();
+    }
+
+    @Test
+    void searchIsCaseInsensitiveAndTrimmed() {
+        assertThat(index.search("  APPLE ")).containsExactly(5L);
+        assertThat(index.search("e p")).containsExactly(5L);
+    }
+
+    @Test
+    void unknownGramReturnsEmpty() {
+        assertThat(index.search("감자")).isEmpty();
+    }
+
+    @Test
+    void emptyQueryReturnsEverything() {
+        assertThat(index.search("")).hasSize(5);
+    }
+
+    @Test
+    void putReplacesPreviousNameAndRemoveDropsId() {
+        index.put(1L, "적양파");
+        assertThat(index.search("적")).containsExactly(1L);
+
+        index.remove(2L);
+        assertThat(index.search("대파")).isEmpty();
+        assertThat(index.search("파")).containsExactly(3L, 1L);
+        assertThat(index.size()).isEqualTo(4);
+    }
+}
@@ -0,0 +1,119 @@
+package com.korit.team_ljco.service;
+
+import com.korit.team_ljco.dto.RecipeListResponse;
+import com.korit.team_ljco.entity.Recipe;
+import com.korit.team_ljco.entity.RecipeIngredient;
+import com.korit.team_ljco.entity.RecipeIngredientMatch;
+import com.korit.team_ljco.entity.UserIngredient;
+import com.korit.team_ljco.mapper.RecipeMapper;
+import com.korit.team_ljco.mapper.UserIngredientMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class RecipeMatchEngineTest {
+
+    private RecipeMatchEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        RecipeMapper recipeMapper = mock(RecipeMapper.class);
+        when(recipeMapper.selectAllRecipes()).thenReturn(List.of(recipe(1), recipe(2), recipe(3), recipe(4)));
+        // 1: {1, 2}, 2: {1, 2, 3, 70}, 3: {1}, 4: {5}
+        when(recipeMapper.selectAllRecipeIngredientIds()).thenReturn(List.of(
+                pair(1, 1), pair(1, 2),
+                pair(2, 1), pair(2, 2), pair(2, 3), pair(2, 70),
+                pair(3, 1),
+                pair(4, 5)));
+        engine = new RecipeMatchEngine(recipeMapper, mock(UserIngredientMapper.class), null);
+        engine.reload();
+    }
+
+    @Test
+    void ranksByMatchRateWithTiesBrokenByRcpIdDescending() {
+        RecipeMatchEngine.Pantry pantry = pantry(1, 2);
+
+        // 1, 3: 100%, 2: 50%, 4: 0%
+        assertThat(engine.rankByMatchRate(pantry, null, 0, 10)).containsExactly(3L, 1L, 2L, 4L);
+        assertThat(engine.rankByMatchRate(pantry, null, 1, 2)).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void keywordIdsFilterBeforePaging() {
+        RecipeMatchEngine.Pantry pantry = pantry(1, 2);
+
+        assertThat(engine.rankByMatchRate(pantry, Set.of(1L, 2L, 4L), 1, 10)).containsExactly(2L, 4L);
+    }
+
+    @Test
+    void cursorContinuesAfterRateAndRcpId() {
+        RecipeMatchEngine.Pantry pantry = pantry(1, 2);
+
+        assertThat(engine.rankByMatchRateAfter(pantry, null, 100, 3L, 10)).containsExactly(1L, 2L, 4L);
+        assertThat(engine.rankByMatchRateAfter(pantry, null, 100, 1L, 1)).containsExactly(2L);
+        // 순위에 없는 키여도 그 다음 위치부터
+        assertThat(engine.rankByMatchRateAfter(pantry, null, 75, 9L, 10)).containsExactly(2L, 4L);
+    }
+
+    @Test
+    void emptyPantryRanksEverythingAtZeroByRcpId() {
+        assertThat(engine.rankByMatchRate(RecipeMatchEngine.Pantry.EMPTY, null, 0, 10))
+                .containsExactly(4L, 3L, 2L, 1L);
+    }
+
+    @Test
+    void ingredientIdsBeyondFirstWordAreCounted() {
+        // 70번 재료는 두 번째 long 워드
+        RecipeMatchEngine.Pantry pantry = pantry(3, 70);
+
+        assertThat(engine.rankByMatchRate(pantry, null, 0, 1)).containsExactly(2L);
+    }
+
+    @Test
+    void applyMatchesColorsIngredientsAndSetsRate() {
+        RecipeMatchEngine.Pantry pantry = RecipeMatchEngine.Pantry.of(
+                List.of(owned(1), owned(2)), ui -> ui.getIngId() == 2);
+        RecipeListResponse card = new RecipeListResponse();
+        card.setRcpId(2L);
+        card.setIngredients(new ArrayList<>(List.of(match(1), match(2), match(3), match(70))));
+
+        engine.applyMatches(List.of(card), pantry);
+
+        assertThat(card.getMatchRate()).isEqualTo(50);
+        assertThat(card.getIngredients()).extracting(RecipeIngredientMatch::getMatchedColor)
+                .containsExactly("G", "R", "N", "N");
+    }
+
+    private static RecipeMatchEngine.Pantry pantry(int... ingIds) {
+        List<UserIngredient> owned = new ArrayList<>();
+        for (int ingId : ingIds) {
+            owned.add(owned(ingId));
+        }
+        return RecipeMatchEngine.Pantry.of(owned, ui -> false);
+    }
+
+    private static UserIngredient owned(int ingId) {
+        return UserIngredient.builder().userId(1L).ingId(ingId).build();
+    }
+
+    private static Recipe recipe(long rcpId) {
+        return Recipe.builder().rcpId(rcpId).build();
+    }
+
+    private static RecipeIngredient pair(long rcpId, int ingId) {
+        return RecipeIngredient.builder().rcpId(rcpId).ingId(ingId).build();
+    }
+
+    private static RecipeIngredientMatch match(int ingId) {
+        RecipeIngredientMatch m = new RecipeIngredientMatch();
+        m.setIngId(ingId);
+        return m;
+    }
+}
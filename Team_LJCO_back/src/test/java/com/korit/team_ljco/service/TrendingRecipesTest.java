@@ -0,0 +1,74 @@
+package com.korit.team_ljco.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TrendingRecipesTest {
+
+    // refresh-ms 0: 조회할 때마다 구간 요약을 다시 합산
+    private static TrendingRecipes trending(int capacity) {
+        return new TrendingRecipes(6, 60, capacity, 0);
+    }
+
+    private static void record(TrendingRecipes trending, long rcpId, int times) {
+        for (int i = 0; i < times; i++) {
+            trending.record(rcpId);
+        }
+    }
+
+    @Test
+    void ranksByCountThenRcpIdDescending() {
+        TrendingRecipes trending = trending(10);
+        record(trending, 1L, 3);
+        record(trending, 2L, 5);
+        record(trending, 3L, 3);
+
+        assertThat(trending.rank(null, 0, 10)).containsExactly(2L, 3L, 1L);
+        assertThat(trending.scoreOf(2L)).isEqualTo(5);
+        assertThat(trending.scoreOf(99L)).isZero();
+        assertThat(trending.count(null)).isEqualTo(3);
+    }
+
+    @Test
+    void pagesAndKeywordFilter() {
+        TrendingRecipes trending = trending(10);
+        record(trending, 1L, 4);
+        record(trending, 2L, 3);
+        record(trending, 3L, 2);
+        record(trending, 4L, 1);
+
+        assertThat(trending.rank(null, 1, 2)).containsExactly(2L, 3L);
+        assertThat(trending.rank(Set.of(1L, 3L, 4L), 1, 10)).containsExactly(3L, 4L);
+        assertThat(trending.count(Set.of(2L, 4L, 99L))).isEqualTo(2);
+        // 커서 (점수 3, rcp 2) 다음부터
+        assertThat(trending.rankAfter(null, 3, 2L, 10)).containsExactly(3L, 4L);
+    }
+
+    @Test
+    void fullSummaryEvictsMinimumAndInheritsItsCount() {
+        TrendingRecipes trending = trending(2);
+        record(trending, 1L, 5);
+        record(trending, 2L, 2);
+        // 가득 찬 상태에서 새 항목 → 가장 적은 2번(2회)을 밀어내고 2 + 1로 시작
+        trending.record(3L);
+
+        assertThat(trending.rank(null, 0, 10)).containsExactly(1L, 3L);
+        assertThat(trending.scoreOf(3L)).isEqualTo(3);
+        assertThat(trending.scoreOf(2L)).isZero();
+    }
+
+    @Test
+    void removedRecipeLeavesRankingAndCount() {
+        TrendingRecipes trending = trending(10);
+        record(trending, 1L, 2);
+        record(trending, 2L, 1);
+
+        trending.remove(1L);
+
+        assertThat(trending.rank(null, 0, 10)).containsExactly(2L);
+        assertThat(trending.count(null)).isEqualTo(1);
+    }
+}
@@ -0,0 +1,156 @@
+package com.korit.team_ljco.service;
+
+import com.korit.team_ljco.entity.Recipe;
+import com.korit.team_ljco.entity.RecipeIngredient;
+import com.korit.team_ljco.entity.UserIngredient;
+import com.korit.team_ljco.mapper.RecipeMapper;
+import com.korit.team_ljco.mapper.UserIngredientMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class UserMatchRateStoreTest {
+
+    private static final Long USER_ID = 7L;
+
+    private UserIngredientMapper userIngredientMapper;
+    private UserMatchRateStore store;
+
+    @BeforeEach
+    void setUp() {
+        RecipeMapper recipeMapper = mock(RecipeMapper.class);
+        when(recipeMapper.selectAllRecipes()).thenReturn(List.of(recipe(1), recipe(2), recipe(3)));
+        // 1: {1, 2}, 2: {2, 3}, 3: {4}
+        when(recipeMapper.selectAllRecipeIngredientIds()).thenReturn(List.of(
+                pair(1, 1), pair(1, 2),
+                pair(2, 2), pair(2, 3),
+                pair(3, 4)));
+        userIngredientMapper = mock(UserIngredientMapper.class);
+        RecipeMatchEngine engine = new RecipeMatchEngine(recipeMapper, userIngredientMapper, null);
+        engine.reload();
+
+        when(userIngredientMapper.selectUserIngredients(USER_ID)).thenReturn(List.of(owned(1)));
+        store = new UserMatchRateStore(engine, userIngredientMapper);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void buildsFromPantryOnFirstUse() {
+        // 1: 50%, 2: 0%, 3: 0%
+        assertThat(store.rankByMatchRate(USER_ID, null, 0, 10)).containsExactly(1L, 3L, 2L);
+    }
+
+    @Test
+    void addedIngredientUpdatesOnlyRecipesContainingItWithoutReloading() {
+        store.rankByMatchRate(USER_ID, null, 0, 10);
+
+        store.onIngredientAdded(USER_ID, 2);
+
+        // 1: 100%, 2: 50%, 3: 0%
+        assertThat(store.rankByMatchRate(USER_ID, null, 0, 10)).containsExactly(1L, 2L, 3L);
+        verify(userIngredientMapper, times(1)).selectUserIngredients(USER_ID);
+    }
+
+    @Test
+    void removedIngredientDecrementsRecipes() {
+        store.rankByMatchRate(USER_ID, null, 0, 10);
+
+        store.onIngredientAdded(USER_ID, 4);
+        store.onIngredientRemoved(USER_ID, 1);
+
+        // 3: 100%, 1/2: 50%
+        assertThat(store.rankByMatchRate(USER_ID, null, 0, 10)).containsExactly(3L, 2L, 1L);
+    }
+
+    @Test
+    void keywordFilterAndCursor() {
+        store.rankByMatchRate(USER_ID, null, 0, 10);
+        store.onIngredientAdded(USER_ID, 2);
+
+        assertThat(store.rankByMatchRate(USER_ID, Set.of(2L, 3L), 0, 10)).containsExactly(2L, 3L);
+        assertThat(store.rankByMatchRateAfter(USER_ID, null, 100, 1L, 10)).containsExactly(2L, 3L);
+    }
+
+    @Test
+    void deltaIsAppliedOnlyAfterCommit() {
+        store.rankByMatchRate(USER_ID, null, 0, 10);
+        TransactionSynchronizationManager.initSynchronization();
+
+        store.onIngredientAdded(USER_ID, 4);
+        assertThat(store.rankByMatchRate(USER_ID, null, 0, 10)).containsExactly(1L, 3L, 2L);
+
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+        assertThat(store.rankByMatchRate(USER_ID, null, 0, 10)).containsExactly(3L, 1L, 2L);
+    }
+
+    @Test
+    void deltaIsDroppedOnRollback() {
+        store.rankByMatchRate(USER_ID, null, 0, 10);
+        TransactionSynchronizationManager.initSynchronization();
+
+        store.onIngredientAdded(USER_ID, 4);
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        assertThat(store.rankByMatchRate(USER_ID, null, 0, 10)).containsExactly(1L, 3L, 2L);
+    }
+
+    @Test
+    void rebuildDuringPendingChangeIsNotCached() {
+        TransactionSynchronizationManager.initSynchronization();
+        store.onIngredientAdded(USER_ID, 4);
+
+        // 변경이 끝나기 전 적재 → 이번 요청에만 사용
+        store.rankByMatchRate(USER_ID, null, 0, 10);
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+
+        when(userIngredientMapper.selectUserIngredients(USER_ID)).thenReturn(List.of(owned(1), owned(4)));
+        assertThat(store.rankByMatchRate(USER_ID, null, 0, 10)).containsExactly(3L, 1L, 2L);
+        verify(userIngredientMapper, times(2)).selectUserIngredients(USER_ID);
+    }
+
+    @Test
+    void evictForcesReload() {
+        store.rankByMatchRate(USER_ID, null, 0, 10);
+        when(userIngredientMapper.selectUserIngredients(USER_ID)).thenReturn(List.of());
+
+        store.evict(USER_ID);
+
+        assertThat(store.rankByMatchRate(USER_ID, null, 0, 10)).containsExactly(3L, 2L, 1L);
+    }
+
+    // 트랜잭션 종료를 흉내 내 등록된 동기화 실행
+    private static void complete(int status) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(s -> s.afterCompletion(status));
+    }
+
+    private static UserIngredient owned(int ingId) {
+        return UserIngredient.builder().userId(USER_ID).ingId(ingId).build();
+    }
+
+    private static Recipe recipe(long rcpId) {
+        return Recipe.builder().rcpId(rcpId).build();
+    }
+
+    private static RecipeIngredient pair(long rcpId, int ingId) {
+        return RecipeIngredient.builder().rcpId(rcpId).ingId(ingId).build();
+    }
+}
@@ -128,6 +128,9 @@ function Recipe() {
                         <button css={recipeS.sortBtn(sort === "MATCHRATE_DESC")} onClick={() => handleSort("MATCHRATE_DESC")}>
                             🛒 매치율순
                         </button>
+                        <button css={recipeS.sortBtn(sort === "TRENDING")} onClick={() => handleSort("TRENDING")}>
+                            📈 급상승순
+                        </button>
                     </div>
 
                     {/* 4. 레시피 그리드 */}